@@ -0,0 +1,74 @@
+package com.osrshiscores.apiclient.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.osrshiscores.apiclient.OsrsApiClient;
+import com.osrshiscores.apiclient.model.input.FetchOptions;
+import com.osrshiscores.apiclient.model.output.OsrsPlayer;
+import com.osrshiscores.apiclient.service.HttpService;
+
+/**
+ * Measures a full OsrsApiClient lookup against an in-process stub HttpService.
+ * This covers everything except the network: URL building, option handling, parsing and model construction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ClientRoundTripBenchmark {
+    private OsrsApiClient client;
+    private FetchOptions options;
+
+    /**
+     * Creates a client backed by a stub that answers every request with a recorded response.
+     */
+    @Setup
+    public void setUp() {
+        String response = Payloads.loadString("index_lite_mid.txt");
+        HttpService stub = new HttpService() {
+            @Override
+            public String get(String url) {
+                return response;
+            }
+
+            @Override
+            public CompletableFuture<String> getAsync(String url) {
+                return CompletableFuture.completedFuture(response);
+            }
+        };
+        client = new OsrsApiClient(stub);
+        options = FetchOptions.builder()
+                .calculateVirtualLevels(true)
+                .build();
+    }
+
+    /**
+     * Looks up a player through the blocking API.
+     *
+     * @return The fetched player
+     * @throws IOException If the lookup fails
+     */
+    @Benchmark
+    public OsrsPlayer getPlayerByRsn() throws IOException {
+        return client.getPlayerByRsn("Zezima", options);
+    }
+
+    /**
+     * Looks up a player through the asynchronous API.
+     *
+     * @return The fetched player
+     */
+    @Benchmark
+    public OsrsPlayer getPlayerByRsnAsync() {
+        return client.getPlayerByRsnAsync("Zezima", options).join();
+    }
+}
@@ -0,0 +1,95 @@
+package com.osrshiscores.apiclient.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.osrshiscores.apiclient.model.input.FetchOptions;
+import com.osrshiscores.apiclient.model.output.OsrsPlayer;
+import com.osrshiscores.apiclient.model.output.PlayerDelta;
+import com.osrshiscores.apiclient.model.output.PlayerSnapshot;
+import com.osrshiscores.apiclient.utils.DeltaCalculator;
+import com.osrshiscores.apiclient.utils.HiscoresResponseParser;
+
+/**
+ * Measures gain computation between a mid-level and a maxed snapshot, singly and over a large batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DeltaBenchmark {
+    private static final int BATCH_SIZE = 100_000;
+
+    private OsrsPlayer beforePlayer;
+    private OsrsPlayer afterPlayer;
+    private PlayerSnapshot before;
+    private PlayerSnapshot after;
+    private List<PlayerSnapshot> beforeBatch;
+    private List<PlayerSnapshot> afterBatch;
+
+    /**
+     * Parses the recorded payloads and builds the batch.
+     */
+    @Setup
+    public void setUp() {
+        FetchOptions options = FetchOptions.defaults();
+        beforePlayer = HiscoresResponseParser.parse("Zezima", Payloads.loadString("index_lite_mid.txt"), options);
+        afterPlayer = HiscoresResponseParser.parse("Zezima", Payloads.loadString("index_lite_maxed.txt"), options);
+        before = PlayerSnapshot.from(beforePlayer);
+        after = PlayerSnapshot.from(afterPlayer);
+        beforeBatch = new ArrayList<>(BATCH_SIZE);
+        afterBatch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            beforeBatch.add(before);
+            afterBatch.add(after);
+        }
+    }
+
+    /**
+     * Computes one delta from compact snapshots.
+     *
+     * @return The delta
+     */
+    @Benchmark
+    public PlayerDelta snapshotDelta() {
+        return PlayerDelta.between(before, after);
+    }
+
+    /**
+     * Computes one delta from fully materialized players, including the snapshot conversion.
+     *
+     * @return The delta
+     */
+    @Benchmark
+    public PlayerDelta playerDelta() {
+        return PlayerDelta.between(beforePlayer, afterPlayer);
+    }
+
+    /**
+     * Computes the whole batch on the calling thread.
+     *
+     * @return The deltas
+     */
+    @Benchmark
+    public List<PlayerDelta> sequentialBatch() {
+        return DeltaCalculator.calculateAll(beforeBatch, afterBatch, false);
+    }
+
+    /**
+     * Computes the whole batch on a parallel stream.
+     *
+     * @return The deltas
+     */
+    @Benchmark
+    public List<PlayerDelta> parallelBatch() {
+        return DeltaCalculator.calculateAll(beforeBatch, afterBatch, true);
+    }
+}
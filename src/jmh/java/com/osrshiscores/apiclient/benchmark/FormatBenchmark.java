@@ -0,0 +1,75 @@
+package com.osrshiscores.apiclient.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.osrshiscores.apiclient.model.input.FetchOptions;
+import com.osrshiscores.apiclient.model.output.OsrsPlayer;
+import com.osrshiscores.apiclient.utils.HiscoresJsonParser;
+import com.osrshiscores.apiclient.utils.HiscoresResponseParser;
+
+/**
+ * Compares parsing the same player from the CSV and JSON hiscores endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FormatBenchmark {
+    private byte[] csvBytes;
+    private byte[] jsonBytes;
+    private String json;
+    private FetchOptions options;
+
+    /**
+     * Loads the CSV and JSON recordings of the same player.
+     */
+    @Setup
+    public void setUp() {
+        csvBytes = Payloads.load("index_lite_mid.txt");
+        jsonBytes = Payloads.load("index_lite_mid.json");
+        json = Payloads.loadString("index_lite_mid.json");
+        options = FetchOptions.defaults();
+    }
+
+    /**
+     * Parses the CSV response from a stream.
+     *
+     * @return The parsed player
+     * @throws IOException If the stream cannot be read
+     */
+    @Benchmark
+    public OsrsPlayer csvStream() throws IOException {
+        return HiscoresResponseParser.parse("Zezima", new ByteArrayInputStream(csvBytes), options);
+    }
+
+    /**
+     * Parses the JSON response from a stream.
+     *
+     * @return The parsed player
+     * @throws IOException If the stream cannot be read
+     */
+    @Benchmark
+    public OsrsPlayer jsonStream() throws IOException {
+        return HiscoresJsonParser.parse("Zezima", new ByteArrayInputStream(jsonBytes), options);
+    }
+
+    /**
+     * Parses the JSON response held as a String.
+     *
+     * @return The parsed player
+     * @throws IOException If the response is not valid JSON
+     */
+    @Benchmark
+    public OsrsPlayer jsonString() throws IOException {
+        return HiscoresJsonParser.parse("Zezima", json, options);
+    }
+}
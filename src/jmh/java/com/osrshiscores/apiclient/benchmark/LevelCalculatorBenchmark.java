@@ -0,0 +1,78 @@
+package com.osrshiscores.apiclient.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.osrshiscores.apiclient.utils.LevelCalculator;
+
+/**
+ * Measures level calculation over a spread of experience values, from fresh accounts to 200m xp.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LevelCalculatorBenchmark {
+    private static final int SAMPLE_COUNT = 1024;
+    private static final int MAX_XP = 200_000_000;
+    private static final long SEED = 42L;
+
+    private long[] xpValues;
+    private int[] levels;
+
+    /**
+     * Generates the experience values to look up.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(SEED);
+        xpValues = new long[SAMPLE_COUNT];
+        levels = new int[SAMPLE_COUNT];
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            xpValues[i] = random.nextInt(MAX_XP);
+        }
+    }
+
+    /**
+     * Calculates levels capped at 99.
+     *
+     * @param blackhole Consumes the results
+     */
+    @Benchmark
+    public void regularLevels(Blackhole blackhole) {
+        for (long xp : xpValues) {
+            blackhole.consume(LevelCalculator.calculateLevel(xp, false));
+        }
+    }
+
+    /**
+     * Calculates virtual levels up to 126.
+     *
+     * @param blackhole Consumes the results
+     */
+    @Benchmark
+    public void virtualLevels(Blackhole blackhole) {
+        for (long xp : xpValues) {
+            blackhole.consume(LevelCalculator.calculateLevel(xp, true));
+        }
+    }
+
+    /**
+     * Calculates virtual levels for the whole batch into a reused array.
+     *
+     * @return The levels array, so the work cannot be eliminated
+     */
+    @Benchmark
+    public int[] batchVirtualLevels() {
+        LevelCalculator.calculateLevels(xpValues, levels, true);
+        return levels;
+    }
+}
@@ -0,0 +1,104 @@
+package com.osrshiscores.apiclient.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.osrshiscores.apiclient.model.input.FetchOptions;
+import com.osrshiscores.apiclient.model.output.OsrsPlayer;
+import com.osrshiscores.apiclient.model.output.PlayerSnapshot;
+import com.osrshiscores.apiclient.utils.HiscoresResponseParser;
+
+/**
+ * Measures parse throughput of recorded hiscores responses.
+ * Run with the GC profiler to see the allocation rate per parse.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParserBenchmark {
+    @Param({"index_lite_mid.txt", "index_lite_maxed.txt"})
+    private String payload;
+
+    @Param({"false", "true"})
+    private boolean virtualLevels;
+
+    private String response;
+    private byte[] responseBytes;
+    private FetchOptions options;
+    private OsrsPlayer parsed;
+
+    /**
+     * Loads the payload and prepares the fetch options.
+     */
+    @Setup
+    public void setUp() {
+        responseBytes = Payloads.load(payload);
+        response = Payloads.loadString(payload);
+        options = FetchOptions.builder()
+                .calculateVirtualLevels(virtualLevels)
+                .build();
+        parsed = HiscoresResponseParser.parse("Zezima", response, options);
+    }
+
+    /**
+     * Parses a response held as a String.
+     *
+     * @return The parsed player
+     */
+    @Benchmark
+    public OsrsPlayer parseString() {
+        return HiscoresResponseParser.parse("Zezima", response, options);
+    }
+
+    /**
+     * Parses a response held in a heap ByteBuffer.
+     *
+     * @return The parsed player
+     */
+    @Benchmark
+    public OsrsPlayer parseByteBuffer() {
+        return HiscoresResponseParser.parse("Zezima", ByteBuffer.wrap(responseBytes), options);
+    }
+
+    /**
+     * Parses a response read from an InputStream.
+     *
+     * @return The parsed player
+     * @throws IOException If the stream cannot be read
+     */
+    @Benchmark
+    public OsrsPlayer parseInputStream() throws IOException {
+        return HiscoresResponseParser.parse("Zezima", new ByteArrayInputStream(responseBytes), options);
+    }
+
+    /**
+     * Parses a response held as a String into a compact snapshot.
+     *
+     * @return The parsed snapshot
+     */
+    @Benchmark
+    public PlayerSnapshot parseSnapshot() {
+        return HiscoresResponseParser.parseSnapshot("Zezima", response, options);
+    }
+
+    /**
+     * Constructs an OsrsPlayer from already parsed skills and activities, isolating the model's copying cost.
+     *
+     * @return The constructed player
+     */
+    @Benchmark
+    public OsrsPlayer constructPlayer() {
+        return new OsrsPlayer(parsed.getRsn(), parsed.getSkills(), parsed.getActivities());
+    }
+}
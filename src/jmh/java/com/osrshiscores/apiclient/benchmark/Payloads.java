@@ -0,0 +1,31 @@
+package com.osrshiscores.apiclient.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Loads recorded hiscores responses bundled with the benchmarks.
+ */
+final class Payloads {
+    private Payloads() {
+        // Utility class, no instantiation needed
+    }
+
+    static byte[] load(String name) {
+        String resource = "/payloads/" + name;
+        try (InputStream stream = Payloads.class.getResourceAsStream(resource)) {
+            if (stream == null) {
+                throw new IllegalArgumentException("Missing benchmark payload " + resource);
+            }
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String loadString(String name) {
+        return new String(load(name), StandardCharsets.UTF_8);
+    }
+}
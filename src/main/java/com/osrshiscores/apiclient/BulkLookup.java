@@ -0,0 +1,168 @@
+package com.osrshiscores.apiclient;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.osrshiscores.apiclient.model.input.FetchOptions;
+import com.osrshiscores.apiclient.model.input.HiscoresMode;
+import com.osrshiscores.apiclient.model.input.Rsn;
+import com.osrshiscores.apiclient.model.output.OsrsPlayer;
+import com.osrshiscores.apiclient.model.output.PlayerLookupResult;
+import com.osrshiscores.apiclient.utils.VirtualThreads;
+
+/**
+ * Runs many lookups through an OsrsApiClient at once and collects one result per lookup.
+ * A failed lookup is reported in its result and does not abort the others.
+ */
+final class BulkLookup {
+    private final OsrsApiClient client;
+    private final boolean useVirtualThreads;
+
+    BulkLookup(OsrsApiClient client, boolean useVirtualThreads) {
+        this.client = client;
+        this.useVirtualThreads = useVirtualThreads;
+    }
+
+    /**
+     * Fetches several players, at most {@link FetchOptions#getMaxConcurrency()} at a time.
+     * Names that are spellings of the same player are fetched once.
+     *
+     * @param rsns The players' RuneScape names
+     * @param options Options for fetching the data
+     * @return One result per requested name, in the iteration order of the given collection
+     * @throws IOException If the bulk fetch is interrupted
+     */
+    List<PlayerLookupResult> getPlayers(Collection<String> rsns, FetchOptions options) throws IOException {
+        if (rsns.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> names = new ArrayList<>(rsns);
+        List<String> lookups = new ArrayList<>(names.size());
+        Map<String, Integer> lookupIndexes = new HashMap<>();
+        int[] lookupIndexByName = new int[names.size()];
+        for (int i = 0; i < names.size(); i++) {
+            // Spellings of the same name share a lookup; invalid names are keyed as typed and fail on their own
+            String rsn = names.get(i);
+            String key;
+            try {
+                key = Rsn.of(rsn).getCanonical();
+            } catch (IllegalArgumentException e) {
+                key = rsn;
+            }
+            Integer lookupIndex = lookupIndexes.putIfAbsent(key, lookups.size());
+            if (lookupIndex == null) {
+                lookupIndex = lookups.size();
+                lookups.add(rsn);
+            }
+            lookupIndexByName[i] = lookupIndex;
+        }
+
+        // A fixed number of workers share the lookups, which bounds concurrency on any executor
+        int parallelism = Math.max(1, Math.min(options.getMaxConcurrency(), lookups.size()));
+        PlayerLookupResult[] lookupResults = new PlayerLookupResult[lookups.size()];
+        AtomicInteger nextLookup = new AtomicInteger();
+        ExecutorService executor = newExecutor(parallelism);
+        try {
+            executor.invokeAll(Collections.nCopies(parallelism,
+                    Executors.callable(() -> drain(lookups, options, nextLookup, lookupResults))));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Bulk fetch interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<PlayerLookupResult> results = new ArrayList<>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            String rsn = names.get(i);
+            PlayerLookupResult result = lookupResults[lookupIndexByName[i]];
+            if (result == null) {
+                results.add(PlayerLookupResult.failure(rsn, new IOException("Lookup did not complete for " + rsn)));
+            } else {
+                results.add(result.getRsn().equals(rsn) ? result : result.withRsn(rsn));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Fetches one player from several game-mode hiscores concurrently.
+     *
+     * @param rsn The player's RuneScape name
+     * @param modes The game modes to query
+     * @param options Options for fetching the data; the mode is overridden for each request
+     * @return One result per requested mode
+     * @throws IOException If the fetch is interrupted
+     */
+    Map<HiscoresMode, PlayerLookupResult> getPlayerAcrossModes(
+            String rsn, Set<HiscoresMode> modes, FetchOptions options) throws IOException {
+        Map<HiscoresMode, CompletableFuture<OsrsPlayer>> pending = new EnumMap<>(HiscoresMode.class);
+        for (HiscoresMode mode : modes) {
+            pending.put(mode, client.getPlayerByRsnAsync(rsn, options.toBuilder().mode(mode).build()));
+        }
+
+        Map<HiscoresMode, PlayerLookupResult> results = new EnumMap<>(HiscoresMode.class);
+        try {
+            for (Map.Entry<HiscoresMode, CompletableFuture<OsrsPlayer>> entry : pending.entrySet()) {
+                results.put(entry.getKey(), awaitLookup(rsn, entry.getValue()));
+            }
+        } catch (InterruptedException e) {
+            pending.values().forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IOException("Multi-mode fetch interrupted", e);
+        }
+        return results;
+    }
+
+    private ExecutorService newExecutor(int parallelism) {
+        if (useVirtualThreads) {
+            return VirtualThreads.newVirtualThreadPerTaskExecutor();
+        }
+        return Executors.newFixedThreadPool(parallelism);
+    }
+
+    private void drain(List<String> lookups, FetchOptions options, AtomicInteger nextLookup,
+            PlayerLookupResult[] results) {
+        int index = nextLookup.getAndIncrement();
+        while (index < lookups.size() && !Thread.currentThread().isInterrupted()) {
+            results[index] = lookup(lookups.get(index), options);
+            index = nextLookup.getAndIncrement();
+        }
+    }
+
+    private PlayerLookupResult lookup(String rsn, FetchOptions options) {
+        try {
+            return PlayerLookupResult.success(rsn, client.getPlayerByRsn(rsn, options));
+        } catch (IOException e) {
+            return PlayerLookupResult.failure(rsn, e);
+        } catch (RuntimeException e) {
+            return PlayerLookupResult.failure(rsn, new IOException("Lookup failed for " + rsn, e));
+        }
+    }
+
+    private static PlayerLookupResult awaitLookup(String rsn, CompletableFuture<OsrsPlayer> future)
+            throws InterruptedException {
+        try {
+            return PlayerLookupResult.success(rsn, future.get());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            IOException error = cause instanceof IOException
+                    ? (IOException) cause
+                    : new IOException("Lookup failed for " + rsn, cause);
+            return PlayerLookupResult.failure(rsn, error);
+        }
+    }
+}
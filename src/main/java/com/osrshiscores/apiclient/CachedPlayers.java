@@ -0,0 +1,104 @@
+package com.osrshiscores.apiclient;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import com.osrshiscores.apiclient.model.input.FetchOptions;
+import com.osrshiscores.apiclient.model.input.HiscoresFormat;
+import com.osrshiscores.apiclient.model.input.HiscoresSchema;
+import com.osrshiscores.apiclient.model.input.Rsn;
+import com.osrshiscores.apiclient.model.output.OsrsPlayer;
+import com.osrshiscores.apiclient.service.ClientMetrics;
+import com.osrshiscores.apiclient.service.PlayerCache;
+
+/**
+ * Looks players up through the client's player cache, counting hits and misses.
+ * Players fetched with options that change the parsed result are cached under separate keys.
+ * If the client has no player cache, every lookup is loaded.
+ */
+final class CachedPlayers {
+    private final PlayerCache cache;
+    private final ClientMetrics metrics;
+
+    CachedPlayers(PlayerCache cache, ClientMetrics metrics) {
+        this.cache = cache;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns whether lookups go through a cache.
+     *
+     * @return true if the client has a player cache
+     */
+    boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Gets a player from the cache, loading them on a miss. Concurrent misses for the same key share one load.
+     * The player is reported under the given spelling of the name, whichever spelling loaded the cached copy.
+     *
+     * @param rsn The player's RuneScape name
+     * @param options The options of the lookup
+     * @param loader Loads the player on a miss
+     * @return A future completing with the player
+     */
+    CompletableFuture<OsrsPlayer> get(Rsn rsn, FetchOptions options, Supplier<CompletableFuture<OsrsPlayer>> loader) {
+        if (cache == null) {
+            return loader.get();
+        }
+        String name = rsn.getName();
+        boolean[] loaded = new boolean[1];
+        CompletableFuture<OsrsPlayer> result = cache.get(key(rsn, options), () -> {
+            loaded[0] = true;
+            return loader.get();
+        });
+        if (loaded[0]) {
+            metrics.cacheMiss();
+        } else {
+            metrics.cacheHit();
+        }
+        return result.thenApply(player -> name.equals(player.getRsn()) ? player : player.withRsn(name));
+    }
+
+    /**
+     * Replaces any cached copy of a player with a newer one.
+     *
+     * @param rsn The player's RuneScape name
+     * @param options The options the player was fetched with
+     * @param player The newer player
+     */
+    void replace(Rsn rsn, FetchOptions options, OsrsPlayer player) {
+        if (cache != null) {
+            cache.put(key(rsn, options), CompletableFuture.completedFuture(player));
+        }
+    }
+
+    /**
+     * Returns the key a player is cached under for a set of options.
+     *
+     * @param rsn The player's RuneScape name
+     * @param options The options of the lookup
+     * @return The cache key
+     */
+    static String key(Rsn rsn, FetchOptions options) {
+        String prefix = MissingPlayers.key(rsn, options);
+        boolean csv = options.getFormat() == HiscoresFormat.CSV;
+        // Only CSV rows are named by the schema; JSON responses carry their own names
+        boolean customSchema = csv && options.getSchema() != HiscoresSchema.defaultSchema();
+        if (!options.isCalculateVirtualLevels() && csv && !customSchema) {
+            return prefix;
+        }
+        StringBuilder key = new StringBuilder(prefix);
+        if (options.isCalculateVirtualLevels()) {
+            key.append("#virtual");
+        }
+        if (!csv) {
+            key.append('#').append(options.getFormat());
+        }
+        if (customSchema) {
+            key.append("#schema=").append(options.getSchema().getVersion());
+        }
+        return key.toString();
+    }
+}
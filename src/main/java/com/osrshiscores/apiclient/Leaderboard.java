@@ -0,0 +1,140 @@
+package com.osrshiscores.apiclient;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+
+import com.osrshiscores.apiclient.model.output.LeaderboardEntry;
+
+/**
+ * A ranking of the players in a LeaderboardIndex by one skill's experience or one activity's score.
+ * Players are ordered by value, highest first; players with the same value are ordered by name.
+ * Rank lookups, top-N and rank-range queries take logarithmic time plus the number of entries returned.
+ */
+public final class Leaderboard {
+    private static final Comparator<Standing> ORDER = Comparator.comparingLong((Standing standing) -> -standing.value)
+            .thenComparing(standing -> standing.rsn);
+
+    private final String name;
+    private final Lock readLock;
+    private final OrderStatisticTree<Standing> tree = new OrderStatisticTree<>(ORDER);
+    private final Map<String, Long> values = new HashMap<>();
+
+    Leaderboard(String name, Lock readLock) {
+        this.name = name;
+        this.readLock = readLock;
+    }
+
+    /**
+     * Returns the name of the skill or activity this leaderboard ranks.
+     *
+     * @return The skill or activity name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of players on this leaderboard.
+     *
+     * @return The player count
+     */
+    public int size() {
+        readLock.lock();
+        try {
+            return tree.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Finds the rank of a player.
+     *
+     * @param rsn The RuneScape name of the player
+     * @return The 1-based rank of the player, or -1 if they are not on this leaderboard
+     */
+    public int getRank(String rsn) {
+        readLock.lock();
+        try {
+            Long value = values.get(rsn);
+            return value == null ? -1 : tree.indexOf(new Standing(rsn, value)) + 1;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the highest ranked players.
+     *
+     * @param count The maximum number of players to return
+     * @return Up to count entries, highest rank first
+     */
+    public List<LeaderboardEntry> top(int count) {
+        return range(1, count);
+    }
+
+    /**
+     * Gets the players between two ranks, for example to page through the leaderboard.
+     *
+     * @param fromRank The first rank to return, 1-based and inclusive
+     * @param toRank The last rank to return, inclusive
+     * @return The entries in that range that exist, highest rank first
+     */
+    public List<LeaderboardEntry> range(int fromRank, int toRank) {
+        if (fromRank < 1) {
+            throw new IllegalArgumentException("fromRank must be at least 1");
+        }
+        if (toRank < fromRank) {
+            return Collections.emptyList();
+        }
+
+        List<Standing> standings = new ArrayList<>();
+        readLock.lock();
+        try {
+            tree.collect(fromRank - 1, (int) Math.min((long) toRank, tree.size()), standings);
+        } finally {
+            readLock.unlock();
+        }
+
+        List<LeaderboardEntry> entries = new ArrayList<>(standings.size());
+        for (int i = 0; i < standings.size(); i++) {
+            Standing standing = standings.get(i);
+            entries.add(new LeaderboardEntry(fromRank + i, standing.rsn, standing.value));
+        }
+        return entries;
+    }
+
+    /**
+     * Sets a player's value, moving them to their new position. Must hold the index's write lock.
+     *
+     * @param rsn The RuneScape name of the player
+     * @param value The new value, or a negative value to take the player off the leaderboard
+     */
+    void put(String rsn, long value) {
+        Long previous = value < 0 ? values.remove(rsn) : values.put(rsn, value);
+        if (previous != null) {
+            if (previous == value) {
+                return;
+            }
+            tree.remove(new Standing(rsn, previous));
+        }
+        if (value >= 0) {
+            tree.insert(new Standing(rsn, value));
+        }
+    }
+
+    private static final class Standing {
+        private final String rsn;
+        private final long value;
+
+        private Standing(String rsn, long value) {
+            this.rsn = rsn;
+            this.value = value;
+        }
+    }
+}
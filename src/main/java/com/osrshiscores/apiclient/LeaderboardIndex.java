@@ -0,0 +1,131 @@
+package com.osrshiscores.apiclient;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.osrshiscores.apiclient.model.input.HiscoresSchema;
+import com.osrshiscores.apiclient.model.output.OsrsPlayer;
+import com.osrshiscores.apiclient.model.output.PlayerSnapshot;
+
+/**
+ * Ranks a locally held set of players, such as a clan, on every skill and activity.
+ * Each skill and activity has its own Leaderboard, kept sorted as snapshots arrive, so updating a player
+ * and querying a ranking both take logarithmic time instead of re-sorting the whole set.
+ * Skills and activities a player is unranked in are left off that leaderboard.
+ * Safe to update and query from multiple threads; an update is seen by readers all at once.
+ */
+public class LeaderboardIndex {
+    private final HiscoresSchema schema;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Leaderboard[] skillBoards;
+    private final Leaderboard[] activityBoards;
+    private final Set<String> players = new HashSet<>();
+
+    /**
+     * Creates an empty index with a leaderboard for every skill and activity in a schema.
+     *
+     * @param schema The schema snapshots are parsed with
+     */
+    public LeaderboardIndex(HiscoresSchema schema) {
+        this.schema = schema;
+        this.skillBoards = new Leaderboard[schema.getSkillCount()];
+        this.activityBoards = new Leaderboard[schema.getActivityCount()];
+        for (int i = 0; i < skillBoards.length; i++) {
+            skillBoards[i] = new Leaderboard(schema.getSkillName(i), lock.readLock());
+        }
+        for (int i = 0; i < activityBoards.length; i++) {
+            activityBoards[i] = new Leaderboard(schema.getActivityName(i), lock.readLock());
+        }
+    }
+
+    /**
+     * Adds a player to the index, or moves them to their new positions if already present.
+     *
+     * @param player The player's latest hiscores
+     */
+    public void update(OsrsPlayer player) {
+        update(PlayerSnapshot.from(player, schema));
+    }
+
+    /**
+     * Adds a player to the index, or moves them to their new positions if already present.
+     * Only the leaderboards whose value changed are touched.
+     *
+     * @param snapshot The player's latest snapshot
+     */
+    public void update(PlayerSnapshot snapshot) {
+        String rsn = snapshot.getRsn();
+        lock.writeLock().lock();
+        try {
+            players.add(rsn);
+            for (int i = 0; i < skillBoards.length; i++) {
+                boolean ranked = i < snapshot.getSkillCount() && snapshot.getSkillRank(i) >= 0;
+                skillBoards[i].put(rsn, ranked ? snapshot.getSkillXp(i) : -1);
+            }
+            for (int i = 0; i < activityBoards.length; i++) {
+                boolean ranked = i < snapshot.getActivityCount() && snapshot.getActivityRank(i) >= 0;
+                activityBoards[i].put(rsn, ranked ? snapshot.getActivityScore(i) : -1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a player from every leaderboard.
+     *
+     * @param rsn The RuneScape name of the player
+     */
+    public void remove(String rsn) {
+        lock.writeLock().lock();
+        try {
+            if (!players.remove(rsn)) {
+                return;
+            }
+            for (Leaderboard board : skillBoards) {
+                board.put(rsn, -1);
+            }
+            for (Leaderboard board : activityBoards) {
+                board.put(rsn, -1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of players in the index.
+     *
+     * @return The player count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return players.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the leaderboard ranking players by a skill's experience.
+     *
+     * @param skillId The id of the skill, see {@link HiscoresSchema#findSkillId(String)}
+     * @return The leaderboard for that skill
+     */
+    public Leaderboard getSkillLeaderboard(int skillId) {
+        return skillBoards[skillId];
+    }
+
+    /**
+     * Gets the leaderboard ranking players by an activity's score.
+     *
+     * @param activityId The id of the activity, see {@link HiscoresSchema#findActivityId(String)}
+     * @return The leaderboard for that activity
+     */
+    public Leaderboard getActivityLeaderboard(int activityId) {
+        return activityBoards[activityId];
+    }
+}
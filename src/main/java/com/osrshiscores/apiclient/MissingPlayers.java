@@ -0,0 +1,60 @@
+package com.osrshiscores.apiclient;
+
+import com.osrshiscores.apiclient.exception.PlayerNotFoundException;
+import com.osrshiscores.apiclient.model.input.FetchOptions;
+import com.osrshiscores.apiclient.model.input.HiscoresMode;
+import com.osrshiscores.apiclient.model.input.Rsn;
+import com.osrshiscores.apiclient.service.ClientMetrics;
+import com.osrshiscores.apiclient.service.NegativeCache;
+
+/**
+ * Remembers players the hiscores reported as not found, so lookups for them fail without a request.
+ * Players are remembered per game mode. Does nothing if the client has no negative cache.
+ */
+final class MissingPlayers {
+    private final NegativeCache negativeCache;
+    private final ClientMetrics metrics;
+
+    MissingPlayers(NegativeCache negativeCache, ClientMetrics metrics) {
+        this.negativeCache = negativeCache;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Fails if a player is known not to exist in a game mode.
+     *
+     * @param rsn The player's RuneScape name
+     * @param options The options of the lookup, naming the game mode
+     * @throws PlayerNotFoundException If the player was recently reported as not found
+     */
+    void checkNotMissing(Rsn rsn, FetchOptions options) throws PlayerNotFoundException {
+        if (negativeCache != null && negativeCache.isKnownMissing(key(rsn, options))) {
+            metrics.negativeCacheHit();
+            throw new PlayerNotFoundException("Player not found (cached): " + rsn);
+        }
+    }
+
+    /**
+     * Remembers that a player does not exist in a game mode.
+     *
+     * @param rsn The player's RuneScape name
+     * @param options The options of the lookup, naming the game mode
+     */
+    void markMissing(Rsn rsn, FetchOptions options) {
+        if (negativeCache != null) {
+            negativeCache.markMissing(key(rsn, options));
+        }
+    }
+
+    /**
+     * Returns the key a player is remembered under: the canonical name, plus the game mode if not normal.
+     *
+     * @param rsn The player's RuneScape name
+     * @param options The options of the lookup, naming the game mode
+     * @return The key for that player and mode
+     */
+    static String key(Rsn rsn, FetchOptions options) {
+        String canonical = rsn.getCanonical();
+        return options.getMode() == HiscoresMode.NORMAL ? canonical : canonical + '#' + options.getMode();
+    }
+}
@@ -0,0 +1,193 @@
+package com.osrshiscores.apiclient;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A treap in which every node also counts the nodes below it.
+ * Besides inserting and removing keys in expected logarithmic time, the counts let it find the position of a key,
+ * or the key at a position, without walking the keys before it.
+ * Keys must be distinct under the comparator. Not thread-safe.
+ *
+ * @param <K> The key type
+ */
+final class OrderStatisticTree<K> {
+    private final Comparator<? super K> comparator;
+    private Node<K> root;
+
+    /**
+     * Creates an empty tree.
+     *
+     * @param comparator The order of the keys
+     */
+    OrderStatisticTree(Comparator<? super K> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Returns the number of keys in the tree.
+     *
+     * @return The key count
+     */
+    int size() {
+        return size(root);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Inserts a key that is not already in the tree.
+     *
+     * @param key The key to insert
+     */
+    void insert(K key) {
+        root = insert(root, new Node<>(key, ThreadLocalRandom.current().nextInt()));
+    }
+
+    private Node<K> insert(Node<K> node, Node<K> inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        Node<K> subtreeRoot = node;
+        if (comparator.compare(inserted.key, node.key) < 0) {
+            node.left = insert(node.left, inserted);
+            if (node.left.priority > node.priority) {
+                subtreeRoot = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, inserted);
+            if (node.right.priority > node.priority) {
+                subtreeRoot = rotateLeft(node);
+            }
+        }
+        subtreeRoot.update();
+        return subtreeRoot;
+    }
+
+    /**
+     * Removes a key from the tree, if present.
+     *
+     * @param key The key to remove
+     */
+    void remove(K key) {
+        root = remove(root, key);
+    }
+
+    private Node<K> remove(Node<K> node, K key) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = comparator.compare(key, node.key);
+        if (comparison == 0) {
+            return merge(node.left, node.right);
+        }
+        if (comparison < 0) {
+            node.left = remove(node.left, key);
+        } else {
+            node.right = remove(node.right, key);
+        }
+        node.update();
+        return node;
+    }
+
+    /**
+     * Finds the position of a key.
+     *
+     * @param key The key to look for
+     * @return The 0-based position of the key, or -1 if it is not in the tree
+     */
+    int indexOf(K key) {
+        int index = 0;
+        Node<K> node = root;
+        while (node != null) {
+            int comparison = comparator.compare(key, node.key);
+            if (comparison == 0) {
+                return index + size(node.left);
+            }
+            if (comparison < 0) {
+                node = node.left;
+            } else {
+                index += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds the keys at positions [from, to) to a list, in order.
+     * Runs in time proportional to the depth of the tree plus the number of keys added.
+     *
+     * @param from The first position, inclusive
+     * @param to The last position, exclusive
+     * @param out The list to add the keys to
+     */
+    void collect(int from, int to, List<K> out) {
+        collect(root, 0, from, to, out);
+    }
+
+    private void collect(Node<K> node, int offset, int from, int to, List<K> out) {
+        if (node == null || offset >= to || offset + node.size <= from) {
+            return;
+        }
+        collect(node.left, offset, from, to, out);
+        int index = offset + size(node.left);
+        if (index >= from && index < to) {
+            out.add(node.key);
+        }
+        collect(node.right, index + 1, from, to, out);
+    }
+
+    private static <K> Node<K> merge(Node<K> left, Node<K> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static <K> Node<K> rotateRight(Node<K> node) {
+        Node<K> left = node.left;
+        node.left = left.right;
+        node.update();
+        left.right = node;
+        return left;
+    }
+
+    private static <K> Node<K> rotateLeft(Node<K> node) {
+        Node<K> right = node.right;
+        node.right = right.left;
+        node.update();
+        right.left = node;
+        return right;
+    }
+
+    private static final class Node<K> {
+        private final K key;
+        private final int priority;
+        private int size = 1;
+        private Node<K> left;
+        private Node<K> right;
+
+        private Node(K key, int priority) {
+            this.key = key;
+            this.priority = priority;
+        }
+
+        private void update() {
+            size = size(left) + size(right) + 1;
+        }
+    }
+}
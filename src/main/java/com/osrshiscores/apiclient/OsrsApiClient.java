@@ -1,28 +1,54 @@
 package com.osrshiscores.apiclient;
 
 import java.io.IOException;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
 
+import com.osrshiscores.apiclient.exception.HiscoresException;
+import com.osrshiscores.apiclient.model.input.ClientOptions;
 import com.osrshiscores.apiclient.model.input.FetchOptions;
+import com.osrshiscores.apiclient.model.input.HiscoresMode;
+import com.osrshiscores.apiclient.model.input.HttpOptions;
+import com.osrshiscores.apiclient.model.input.HttpTransport;
+import com.osrshiscores.apiclient.model.input.Rsn;
 import com.osrshiscores.apiclient.model.output.OsrsPlayer;
+import com.osrshiscores.apiclient.model.output.PlayerLookupResult;
+import com.osrshiscores.apiclient.model.output.RefreshResult;
+import com.osrshiscores.apiclient.service.ClientMetrics;
 import com.osrshiscores.apiclient.service.HttpService;
 import com.osrshiscores.apiclient.service.impl.HttpServiceImpl;
-import com.osrshiscores.apiclient.utils.HiscoresResponseParser;
+import com.osrshiscores.apiclient.service.impl.OkHttpServiceImpl;
 
 /**
  * Main client for interacting with the OSRS Hiscores API.
  * This class provides methods to fetch player statistics from the OSRS hiscores.
  */
 public class OsrsApiClient {
-    private static final String HISCORES_URL = "https://secure.runescape.com/m=hiscore_oldschool/index_lite.ws?player=";
-    private final HttpService httpService;
+    private final PlayerFetcher fetcher;
+    private final CachedPlayers players;
+    private final PlayerRefresher refresher;
+    private final BulkLookup bulkLookup;
 
     /**
      * Creates a new OsrsApiClient with default settings.
      */
     public OsrsApiClient() {
-        this.httpService = new HttpServiceImpl();
+        this(ClientOptions.defaults());
+    }
+
+    /**
+     * Creates a new OsrsApiClient with custom client options and the default HTTP service.
+     *
+     * @param clientOptions Options for configuring the client
+     */
+    public OsrsApiClient(ClientOptions clientOptions) {
+        this(createHttpService(clientOptions), clientOptions);
     }
 
     /**
@@ -31,7 +57,35 @@ public class OsrsApiClient {
      * @param httpService The HTTP service to use for making requests
      */
     public OsrsApiClient(HttpService httpService) {
-        this.httpService = httpService;
+        this(httpService, ClientOptions.defaults());
+    }
+
+    /**
+     * Creates a new OsrsApiClient with a custom HTTP service and client options.
+     *
+     * @param httpService The HTTP service to use for making requests
+     * @param clientOptions Options for configuring the client
+     */
+    public OsrsApiClient(HttpService httpService, ClientOptions clientOptions) {
+        this.fetcher = new PlayerFetcher(httpService, clientOptions);
+        this.players = new CachedPlayers(clientOptions.getPlayerCache(), clientOptions.getMetrics());
+        this.refresher = new PlayerRefresher(fetcher, players, clientOptions.getMaxRefreshFingerprints());
+        this.bulkLookup = new BulkLookup(this, clientOptions.isUseVirtualThreads());
+    }
+
+    private static HttpService createHttpService(ClientOptions clientOptions) {
+        HttpOptions httpOptions = clientOptions.getHttpOptions() != null
+                ? clientOptions.getHttpOptions()
+                : HttpOptions.defaults();
+        if (clientOptions.isUseVirtualThreads()) {
+            httpOptions = httpOptions.toBuilder().useVirtualThreads(true).build();
+        }
+        if (httpOptions.getMetrics() == ClientMetrics.NOOP) {
+            httpOptions = httpOptions.toBuilder().metrics(clientOptions.getMetrics()).build();
+        }
+        return httpOptions.getTransport() == HttpTransport.OKHTTP
+                ? new OkHttpServiceImpl(httpOptions)
+                : new HttpServiceImpl(httpOptions);
     }
 
     /**
@@ -51,11 +105,148 @@ public class OsrsApiClient {
      * @param rsn The player's RuneScape name
      * @param options Options for fetching the data (e.g., virtual levels)
      * @return OsrsPlayer object containing the player's statistics
-     * @throws IOException If there is an error fetching the data
+     * @throws IOException If there is an error fetching the data. Hiscores errors are reported as
+     *                     HiscoresException subclasses, such as PlayerNotFoundException for unknown players
+     *                     and InvalidRsnException for names that are not valid RuneScape names
      */
     public OsrsPlayer getPlayerByRsn(String rsn, FetchOptions options) throws IOException {
-        String encodedRsn = URLEncoder.encode(rsn, StandardCharsets.UTF_8);
-        String response = httpService.get(HISCORES_URL + encodedRsn);
-        return HiscoresResponseParser.parse(rsn, response, options);
+        Rsn name = PlayerFetcher.resolve(rsn);
+        fetcher.checkNotMissing(name, options);
+
+        if (!players.isEnabled()) {
+            return fetcher.fetch(name, options);
+        }
+        return await(players.get(name, options, () -> {
+            try {
+                return CompletableFuture.completedFuture(fetcher.fetch(name, options));
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }));
+    }
+
+    /**
+     * Fetches player data from the OSRS hiscores asynchronously using default options.
+     *
+     * @param rsn The player's RuneScape name
+     * @return A future completing with the player's statistics
+     */
+    public CompletableFuture<OsrsPlayer> getPlayerByRsnAsync(String rsn) {
+        return getPlayerByRsnAsync(rsn, FetchOptions.defaults());
+    }
+
+    /**
+     * Fetches player data from the OSRS hiscores asynchronously with custom options.
+     * The returned future completes exceptionally if the request or parsing fails,
+     * with the same exception types as {@link #getPlayerByRsn(String, FetchOptions)}.
+     *
+     * @param rsn The player's RuneScape name
+     * @param options Options for fetching the data (e.g., virtual levels)
+     * @return A future completing with the player's statistics
+     */
+    public CompletableFuture<OsrsPlayer> getPlayerByRsnAsync(String rsn, FetchOptions options) {
+        Rsn name;
+        try {
+            name = PlayerFetcher.resolve(rsn);
+            fetcher.checkNotMissing(name, options);
+        } catch (HiscoresException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return players.get(name, options, () -> fetcher.fetchAsync(name, options));
+    }
+
+    /**
+     * Fetches several players from the OSRS hiscores concurrently.
+     * At most {@link FetchOptions#getMaxConcurrency()} lookups run at the same time,
+     * on virtual threads if enabled in the client options.
+     * A failed lookup is reported in its result and does not abort the rest of the batch.
+     * Names that are spellings of the same player, such as "Zezima" and "zezima_", are fetched once.
+     *
+     * @param rsns The players' RuneScape names
+     * @param options Options for fetching the data (e.g., virtual levels, concurrency)
+     * @return One result per requested name, in the iteration order of the given collection
+     * @throws IOException If the bulk fetch is interrupted
+     */
+    public List<PlayerLookupResult> getPlayersByRsn(Collection<String> rsns, FetchOptions options)
+            throws IOException {
+        return bulkLookup.getPlayers(rsns, options);
+    }
+
+    /**
+     * Publishes lookup results for a sequence of players as they arrive, honoring the subscriber's demand.
+     * Names are only taken from the iterator, and players only fetched, when the subscriber has requested more
+     * results than are pending, so a slow consumer slows the fetching instead of filling the heap.
+     * At most {@link FetchOptions#getMaxConcurrency()} lookups run at once, and results arrive in completion order.
+     * A failed lookup is published as a failed result; the stream only fails if the iterator throws.
+     * The returned publisher accepts a single subscriber. For a Stream of names, pass {@code stream.iterator()}.
+     *
+     * @param rsns The RuneScape names to look up, consumed lazily
+     * @param options Options for fetching the data, including the maximum concurrency
+     * @return A publisher of one result per name
+     */
+    public Flow.Publisher<PlayerLookupResult> publishPlayers(Iterator<String> rsns, FetchOptions options) {
+        return new PlayerLookupPublisher(rsns, rsn -> getPlayerByRsnAsync(rsn, options), options.getMaxConcurrency());
+    }
+
+    /**
+     * Fetches one player from several game-mode hiscores concurrently.
+     * Comparing the results shows, for example, whether an ironman has de-ironed
+     * or a hardcore ironman has lost their status.
+     *
+     * @param rsn The player's RuneScape name
+     * @param modes The game modes to query
+     * @param options Options for fetching the data; the mode is overridden for each request
+     * @return One result per requested mode. Modes where the player is not ranked
+     *         fail with PlayerNotFoundException
+     * @throws IOException If the fetch is interrupted
+     */
+    public Map<HiscoresMode, PlayerLookupResult> getPlayerByRsnAcrossModes(
+            String rsn, Set<HiscoresMode> modes, FetchOptions options) throws IOException {
+        return bulkLookup.getPlayerAcrossModes(rsn, modes, options);
+    }
+
+    /**
+     * Refreshes a player using default options, reporting whether their hiscores changed since the last refresh.
+     *
+     * @param rsn The player's RuneScape name
+     * @return The refreshed player, or an unchanged result
+     * @throws IOException If there is an error fetching the data
+     */
+    public RefreshResult refreshPlayer(String rsn) throws IOException {
+        return refreshPlayer(rsn, FetchOptions.defaults());
+    }
+
+    /**
+     * Refreshes a player, reporting whether their hiscores changed since the last refresh.
+     * The client remembers the entity tag and a fingerprint of the last body for each player, sends the tag
+     * as a conditional request, and skips parsing when the server answers 304 or returns an identical body.
+     * Refreshes always go to the network; a changed player replaces any cached copy.
+     * Fingerprints are kept for the most recently refreshed players, up to
+     * {@link ClientOptions#getMaxRefreshFingerprints()}; a forgotten player is fetched in full on its next refresh.
+     *
+     * @param rsn The player's RuneScape name
+     * @param options Options for fetching the data
+     * @return The refreshed player, or an unchanged result
+     * @throws IOException If there is an error fetching the data
+     */
+    public RefreshResult refreshPlayer(String rsn, FetchOptions options) throws IOException {
+        Rsn name = PlayerFetcher.resolve(rsn);
+        fetcher.checkNotMissing(name, options);
+        return refresher.refresh(rsn, name, options);
+    }
+
+    private static OsrsPlayer await(CompletableFuture<OsrsPlayer> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Player lookup failed", cause);
+        }
     }
 }
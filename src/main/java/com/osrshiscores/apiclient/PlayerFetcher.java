@@ -0,0 +1,185 @@
+package com.osrshiscores.apiclient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.osrshiscores.apiclient.exception.HiscoresParseException;
+import com.osrshiscores.apiclient.exception.InvalidRsnException;
+import com.osrshiscores.apiclient.exception.PlayerNotFoundException;
+import com.osrshiscores.apiclient.model.input.ClientOptions;
+import com.osrshiscores.apiclient.model.input.FetchOptions;
+import com.osrshiscores.apiclient.model.input.HiscoresFormat;
+import com.osrshiscores.apiclient.model.input.Rsn;
+import com.osrshiscores.apiclient.model.output.ConditionalResponse;
+import com.osrshiscores.apiclient.model.output.OsrsPlayer;
+import com.osrshiscores.apiclient.service.ClientMetrics;
+import com.osrshiscores.apiclient.service.HttpService;
+import com.osrshiscores.apiclient.utils.HiscoresJsonParser;
+import com.osrshiscores.apiclient.utils.HiscoresResponseParser;
+
+/**
+ * Fetches players from the hiscores and parses them, bypassing any player cache.
+ * Players reported as not found are remembered in the client's negative cache, and failures and parse times
+ * are reported to the client's metrics.
+ */
+final class PlayerFetcher {
+    private static final String PLAYER_PARAMETER = "?player=";
+
+    private final HttpService httpService;
+    private final String hiscoresUrl;
+    private final ClientMetrics metrics;
+    private final MissingPlayers missingPlayers;
+
+    PlayerFetcher(HttpService httpService, ClientOptions clientOptions) {
+        this.httpService = httpService;
+        this.hiscoresUrl = clientOptions.getHiscoresUrl();
+        this.metrics = clientOptions.getMetrics();
+        this.missingPlayers = new MissingPlayers(clientOptions.getNegativeCache(), metrics);
+    }
+
+    /**
+     * Parses a RuneScape name as typed, rejecting names that cannot exist before any request is sent.
+     *
+     * @param rsn The name as typed
+     * @return The parsed name
+     * @throws InvalidRsnException If the name is not a valid RuneScape name
+     */
+    static Rsn resolve(String rsn) throws InvalidRsnException {
+        try {
+            return Rsn.of(rsn);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRsnException("Invalid RuneScape name: " + rsn);
+        }
+    }
+
+    /**
+     * Fails if a player was recently reported as not found in the game mode of a lookup.
+     *
+     * @param rsn The player's RuneScape name
+     * @param options The options of the lookup
+     * @throws PlayerNotFoundException If the player is known not to exist
+     */
+    void checkNotMissing(Rsn rsn, FetchOptions options) throws PlayerNotFoundException {
+        missingPlayers.checkNotMissing(rsn, options);
+    }
+
+    /**
+     * Fetches and parses a player, streaming JSON responses into the parser.
+     *
+     * @param rsn The player's RuneScape name
+     * @param options The options of the lookup
+     * @return The parsed player
+     * @throws IOException If the request or parsing fails
+     */
+    OsrsPlayer fetch(Rsn rsn, FetchOptions options) throws IOException {
+        String url = buildUrl(rsn, options);
+        try {
+            if (options.getFormat() == HiscoresFormat.JSON) {
+                try (InputStream body = httpService.getStream(url)) {
+                    return parseJson(rsn.getName(), body, options);
+                }
+            }
+            return parse(rsn.getName(), httpService.get(url), options);
+        } catch (IOException e) {
+            recordFailure(rsn, options, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Fetches and parses a player asynchronously.
+     *
+     * @param rsn The player's RuneScape name
+     * @param options The options of the lookup
+     * @return A future completing with the parsed player, or exceptionally if the request or parsing fails
+     */
+    CompletableFuture<OsrsPlayer> fetchAsync(Rsn rsn, FetchOptions options) {
+        return httpService.getAsync(buildUrl(rsn, options))
+                .thenApply(response -> {
+                    try {
+                        return parse(rsn.getName(), response, options);
+                    } catch (HiscoresParseException e) {
+                        throw new CompletionException(e);
+                    }
+                })
+                .whenComplete((player, error) -> {
+                    if (error != null) {
+                        recordFailure(rsn, options, error);
+                    }
+                });
+    }
+
+    /**
+     * Fetches a player's response body unless it still matches an entity tag, without parsing it.
+     *
+     * @param rsn The player's RuneScape name
+     * @param options The options of the lookup
+     * @param etag The entity tag of the last response, or null to fetch unconditionally
+     * @return The response, which is not modified if the tag still matches
+     * @throws IOException If the request fails
+     */
+    ConditionalResponse fetchConditional(Rsn rsn, FetchOptions options, String etag) throws IOException {
+        try {
+            return httpService.getConditional(buildUrl(rsn, options), etag);
+        } catch (IOException e) {
+            recordFailure(rsn, options, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Parses a response body in the format of a lookup.
+     *
+     * @param rsn The player's RuneScape name, as shown on the parsed player
+     * @param response The response body
+     * @param options The options of the lookup
+     * @return The parsed player
+     * @throws HiscoresParseException If the body is not a valid hiscores response
+     */
+    OsrsPlayer parse(String rsn, String response, FetchOptions options) throws HiscoresParseException {
+        long startNanos = System.nanoTime();
+        try {
+            if (options.getFormat() == HiscoresFormat.JSON) {
+                return HiscoresJsonParser.parse(rsn, response, options);
+            }
+            return HiscoresResponseParser.parse(rsn, response, options);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new HiscoresParseException("Malformed hiscores response for " + rsn, e);
+        } finally {
+            metrics.parseCompleted(System.nanoTime() - startNanos);
+        }
+    }
+
+    private OsrsPlayer parseJson(String rsn, InputStream body, FetchOptions options) throws IOException {
+        // Streaming parses include the time spent reading the body as it arrives
+        long startNanos = System.nanoTime();
+        try {
+            return HiscoresJsonParser.parse(rsn, body, options);
+        } catch (JsonProcessingException e) {
+            throw new HiscoresParseException("Malformed hiscores response for " + rsn, e);
+        } finally {
+            metrics.parseCompleted(System.nanoTime() - startNanos);
+        }
+    }
+
+    private void recordFailure(Rsn rsn, FetchOptions options, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof PlayerNotFoundException) {
+            missingPlayers.markMissing(rsn, options);
+        }
+        if (cause instanceof IOException) {
+            metrics.lookupFailed((IOException) cause);
+        }
+    }
+
+    private String buildUrl(Rsn rsn, FetchOptions options) {
+        return hiscoresUrl + options.getMode().getTable() + '/' + options.getFormat().getEndpoint()
+                + PLAYER_PARAMETER
+                + URLEncoder.encode(rsn.getName(), StandardCharsets.UTF_8);
+    }
+}
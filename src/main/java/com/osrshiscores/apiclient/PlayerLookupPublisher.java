@@ -0,0 +1,185 @@
+package com.osrshiscores.apiclient;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.osrshiscores.apiclient.model.output.OsrsPlayer;
+import com.osrshiscores.apiclient.model.output.PlayerLookupResult;
+
+/**
+ * Publishes lookup results for a sequence of names, only fetching as many players as the subscriber has requested.
+ * Lookups still pending plus results not yet delivered never exceed the outstanding demand, and at most
+ * maxConcurrency lookups run at once, so memory stays flat however long the sequence is.
+ * Results are delivered in completion order. The names can only be consumed once, so the publisher accepts
+ * a single subscriber.
+ */
+final class PlayerLookupPublisher implements Flow.Publisher<PlayerLookupResult> {
+    private final Iterator<String> rsns;
+    private final Function<String, CompletableFuture<OsrsPlayer>> lookup;
+    private final int maxConcurrency;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    PlayerLookupPublisher(Iterator<String> rsns, Function<String, CompletableFuture<OsrsPlayer>> lookup,
+            int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+        this.rsns = rsns;
+        this.lookup = lookup;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super PlayerLookupResult> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    // Already failed
+                }
+
+                @Override
+                public void cancel() {
+                    // Already failed
+                }
+            });
+            subscriber.onError(new IllegalStateException("This publisher only accepts a single subscriber"));
+            return;
+        }
+        LookupSubscription subscription = new LookupSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    /**
+     * Tracks demand and delivers results through a drain loop, which only ever runs on one thread at a time.
+     */
+    private final class LookupSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super PlayerLookupResult> subscriber;
+        private final Queue<PlayerLookupResult> ready = new ConcurrentLinkedQueue<>();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+        private boolean exhausted;
+
+        LookupSubscription(Flow.Subscriber<? super PlayerLookupResult> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Demand must be positive, got " + n);
+            } else {
+                requested.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (isTerminated()) {
+                    return;
+                }
+                deliver();
+                try {
+                    launch();
+                } catch (RuntimeException e) {
+                    terminate(e);
+                    return;
+                }
+                if (exhausted && outstanding.get() == 0) {
+                    cancelled = true;
+                    subscriber.onComplete();
+                    return;
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private boolean isTerminated() {
+            if (cancelled) {
+                ready.clear();
+                return true;
+            }
+            Throwable error = invalidRequest;
+            if (error != null) {
+                terminate(error);
+                return true;
+            }
+            return false;
+        }
+
+        private void deliver() {
+            long demand = requested.get();
+            long delivered = 0;
+            while (delivered != demand && !cancelled) {
+                PlayerLookupResult result = ready.poll();
+                if (result == null) {
+                    break;
+                }
+                outstanding.decrementAndGet();
+                subscriber.onNext(result);
+                delivered++;
+            }
+            if (delivered != 0 && demand != Long.MAX_VALUE) {
+                requested.addAndGet(-delivered);
+            }
+        }
+
+        private void launch() {
+            while (!exhausted && !cancelled
+                    && inFlight.get() < maxConcurrency
+                    && outstanding.get() < requested.get()) {
+                if (!rsns.hasNext()) {
+                    exhausted = true;
+                    return;
+                }
+                String rsn = rsns.next();
+                inFlight.incrementAndGet();
+                outstanding.incrementAndGet();
+                lookup.apply(rsn).whenComplete((player, error) -> {
+                    // Queue the result before releasing the slot, so completion is never signalled early
+                    ready.add(error == null
+                            ? PlayerLookupResult.success(rsn, player)
+                            : PlayerLookupResult.failure(rsn, toIOException(rsn, error)));
+                    inFlight.decrementAndGet();
+                    drain();
+                });
+            }
+        }
+
+        private void terminate(Throwable error) {
+            cancelled = true;
+            ready.clear();
+            subscriber.onError(error);
+        }
+    }
+
+    private static IOException toIOException(String rsn, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof IOException ? (IOException) cause : new IOException("Lookup failed for " + rsn, cause);
+    }
+}
@@ -0,0 +1,99 @@
+package com.osrshiscores.apiclient;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.osrshiscores.apiclient.exception.PlayerNotFoundException;
+import com.osrshiscores.apiclient.model.input.FetchOptions;
+import com.osrshiscores.apiclient.model.input.Rsn;
+import com.osrshiscores.apiclient.model.output.ConditionalResponse;
+import com.osrshiscores.apiclient.model.output.OsrsPlayer;
+import com.osrshiscores.apiclient.model.output.RefreshResult;
+
+/**
+ * Refreshes players, skipping the parse when their hiscores have not changed since the last refresh.
+ * The entity tag and a fingerprint of the last body are remembered for the most recently refreshed players,
+ * up to a fixed number; a forgotten player is fetched in full on its next refresh.
+ */
+final class PlayerRefresher {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final PlayerFetcher fetcher;
+    private final CachedPlayers players;
+    private final Map<String, BodyFingerprint> fingerprints;
+
+    PlayerRefresher(PlayerFetcher fetcher, CachedPlayers players, int maxFingerprints) {
+        this.fetcher = fetcher;
+        this.players = players;
+        this.fingerprints = Collections.synchronizedMap(new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, BodyFingerprint> eldest) {
+                return size() > maxFingerprints;
+            }
+        });
+    }
+
+    /**
+     * Refreshes a player, replacing any cached copy if their hiscores changed.
+     *
+     * @param rsn The player's RuneScape name as given, reported on the result
+     * @param name The player's RuneScape name
+     * @param options Options for fetching the data
+     * @return The refreshed player, or an unchanged result
+     * @throws IOException If there is an error fetching the data
+     */
+    RefreshResult refresh(String rsn, Rsn name, FetchOptions options) throws IOException {
+        String key = CachedPlayers.key(name, options);
+        BodyFingerprint previous = fingerprints.get(key);
+        ConditionalResponse response;
+        try {
+            response = fetcher.fetchConditional(name, options, previous != null ? previous.etag : null);
+        } catch (PlayerNotFoundException e) {
+            fingerprints.remove(key);
+            throw e;
+        }
+        if (response.isNotModified()) {
+            return RefreshResult.unchanged(rsn);
+        }
+
+        long hash = fingerprint(response.getBody());
+        if (previous != null && previous.hash == hash) {
+            fingerprints.put(key, new BodyFingerprint(response.getEtag(), hash));
+            return RefreshResult.unchanged(rsn);
+        }
+
+        // Only a body that parsed is remembered; otherwise the next refresh would skip it as unchanged
+        OsrsPlayer player = fetcher.parse(name.getName(), response.getBody(), options);
+        fingerprints.put(key, new BodyFingerprint(response.getEtag(), hash));
+        players.replace(name, options, player);
+        return RefreshResult.changed(rsn, player);
+    }
+
+    private static long fingerprint(String body) {
+        // 64-bit FNV-1a; hashing the decoded characters is far cheaper than parsing them
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < body.length(); i++) {
+            hash ^= body.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * What the client remembers about the last body it received for a player.
+     */
+    private static final class BodyFingerprint {
+        private final String etag;
+        private final long hash;
+
+        BodyFingerprint(String etag, long hash) {
+            this.etag = etag;
+            this.hash = hash;
+        }
+    }
+}
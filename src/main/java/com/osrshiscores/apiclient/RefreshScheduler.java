@@ -0,0 +1,203 @@
+package com.osrshiscores.apiclient;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import com.osrshiscores.apiclient.model.input.RefreshOptions;
+import com.osrshiscores.apiclient.model.input.Rsn;
+import com.osrshiscores.apiclient.model.output.PlayerDelta;
+import com.osrshiscores.apiclient.model.output.PlayerSnapshot;
+import com.osrshiscores.apiclient.model.output.RefreshResult;
+import com.osrshiscores.apiclient.service.RefreshListener;
+
+/**
+ * Keeps a roster of players up to date in the background.
+ * Refreshes are sent at evenly spaced ticks within a global request budget, always to the most overdue player.
+ * Each player has their own interval: it resets to the minimum when a refresh shows experience or activity gains,
+ * and doubles up to the maximum when it does not, so active players are refreshed more often than idle ones
+ * for the same number of requests. Changed players are delivered to a RefreshListener.
+ */
+public class RefreshScheduler implements Closeable {
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final OsrsApiClient client;
+    private final RefreshOptions options;
+    private final RefreshListener listener;
+    private final Map<Rsn, TrackedPlayer> roster = new HashMap<>();
+    private final PriorityQueue<TrackedPlayer> queue =
+            new PriorityQueue<>(Comparator.comparingLong(player -> player.nextDueNanos));
+    private final Semaphore permits;
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor();
+    private final ExecutorService workers;
+    private boolean started;
+
+    /**
+     * Creates a new RefreshScheduler. Call {@link #start()} to begin refreshing.
+     *
+     * @param client The client used to refresh players
+     * @param options Options for the request budget and refresh intervals
+     * @param listener Receives changed players and failures
+     */
+    public RefreshScheduler(OsrsApiClient client, RefreshOptions options, RefreshListener listener) {
+        if (options.getRequestsPerSecond() <= 0) {
+            throw new IllegalArgumentException("requestsPerSecond must be positive");
+        }
+        if (options.getMinInterval().compareTo(options.getMaxInterval()) > 0) {
+            throw new IllegalArgumentException("minInterval must not exceed maxInterval");
+        }
+        if (options.getMaxConcurrency() <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+
+        this.client = client;
+        this.options = options;
+        this.listener = listener;
+        this.permits = new Semaphore(options.getMaxConcurrency());
+        this.workers = Executors.newFixedThreadPool(options.getMaxConcurrency());
+    }
+
+    /**
+     * Adds a player to the roster. New players are refreshed as soon as the budget allows.
+     * Tracking another spelling of a name already on the roster has no effect.
+     *
+     * @param rsn The player's RuneScape name
+     * @throws IllegalArgumentException If the name is not a valid RuneScape name
+     */
+    public synchronized void track(String rsn) {
+        Rsn name = Rsn.of(rsn);
+        if (!roster.containsKey(name)) {
+            TrackedPlayer player = new TrackedPlayer(name, options.getMinInterval().toNanos(), System.nanoTime());
+            roster.put(name, player);
+            queue.add(player);
+        }
+    }
+
+    /**
+     * Removes a player from the roster. A refresh already in flight still completes.
+     *
+     * @param rsn The player's RuneScape name, in any spelling
+     * @throws IllegalArgumentException If the name is not a valid RuneScape name
+     */
+    public synchronized void untrack(String rsn) {
+        TrackedPlayer player = roster.remove(Rsn.of(rsn));
+        if (player != null) {
+            queue.remove(player);
+        }
+    }
+
+    /**
+     * Returns the number of players on the roster.
+     *
+     * @return The roster size
+     */
+    public synchronized int getTrackedCount() {
+        return roster.size();
+    }
+
+    /**
+     * Starts refreshing the roster in the background.
+     *
+     * @throws IllegalStateException If the scheduler has already been started
+     */
+    public synchronized void start() {
+        if (started) {
+            throw new IllegalStateException("RefreshScheduler already started");
+        }
+        started = true;
+        long periodNanos = Math.max(1, (long) (NANOS_PER_SECOND / options.getRequestsPerSecond()));
+        ticker.scheduleAtFixedRate(this::tick, 0, periodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stops refreshing and interrupts refreshes in flight.
+     */
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private void tick() {
+        if (!permits.tryAcquire()) {
+            return;
+        }
+        TrackedPlayer player = pollDue();
+        if (player == null) {
+            permits.release();
+            return;
+        }
+        try {
+            workers.execute(() -> refresh(player));
+        } catch (RejectedExecutionException e) {
+            permits.release();
+        }
+    }
+
+    private synchronized TrackedPlayer pollDue() {
+        TrackedPlayer next = queue.peek();
+        if (next == null || next.nextDueNanos - System.nanoTime() > 0) {
+            return null;
+        }
+        return queue.poll();
+    }
+
+    private void refresh(TrackedPlayer player) {
+        boolean active = false;
+        try {
+            RefreshResult result = client.refreshPlayer(player.rsn.getName(), options.getFetchOptions());
+            if (!result.isChanged()) {
+                return;
+            }
+
+            // Rank changes alone alter the response, so only experience or score gains count as activity
+            PlayerSnapshot snapshot = PlayerSnapshot.from(result.getPlayer(), options.getFetchOptions().getSchema());
+            PlayerDelta delta = player.snapshot != null ? PlayerDelta.between(player.snapshot, snapshot) : null;
+            player.snapshot = snapshot;
+            active = delta == null || delta.hasGains();
+            listener.onPlayerUpdated(result.getPlayer(), delta);
+        } catch (IOException e) {
+            listener.onRefreshFailed(player.rsn.getName(), e);
+        } finally {
+            // Also reached on an unexpected RuntimeException, which must not drop the player from the schedule
+            reschedule(player, active);
+            permits.release();
+        }
+    }
+
+    private synchronized void reschedule(TrackedPlayer player, boolean active) {
+        long minNanos = options.getMinInterval().toNanos();
+        long maxNanos = options.getMaxInterval().toNanos();
+        player.intervalNanos = active ? minNanos : Math.min(maxNanos, player.intervalNanos * 2);
+        player.nextDueNanos = System.nanoTime() + player.intervalNanos;
+        if (roster.get(player.rsn) == player) {
+            queue.add(player);
+        }
+    }
+
+    /**
+     * Scheduling state for one player on the roster, guarded by the scheduler's lock,
+     * except for the snapshot, which only the single refresh in flight for the player touches.
+     */
+    private static final class TrackedPlayer {
+        private final Rsn rsn;
+        private long intervalNanos;
+        private long nextDueNanos;
+        private PlayerSnapshot snapshot;
+
+        TrackedPlayer(Rsn rsn, long intervalNanos, long nextDueNanos) {
+            this.rsn = rsn;
+            this.intervalNanos = intervalNanos;
+            this.nextDueNanos = nextDueNanos;
+        }
+    }
+}
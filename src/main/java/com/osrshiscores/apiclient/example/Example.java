@@ -3,6 +3,8 @@ package com.osrshiscores.apiclient.example;
 import java.io.IOException;
 
 import com.osrshiscores.apiclient.OsrsApiClient;
+import com.osrshiscores.apiclient.exception.HiscoresServerException;
+import com.osrshiscores.apiclient.exception.PlayerNotFoundException;
 import com.osrshiscores.apiclient.model.input.FetchOptions;
 import com.osrshiscores.apiclient.model.output.Activity;
 import com.osrshiscores.apiclient.model.output.OsrsPlayer;
@@ -71,13 +73,12 @@ public final class Example {
 
             OsrsPlayer player = client.getPlayerByRsn(rsn, options);
             displayPlayerInformation(player, virtualLevels);
+        } catch (PlayerNotFoundException e) {
+            System.err.println("Player not found: " + rsn);
+        } catch (HiscoresServerException e) {
+            System.err.println("OSRS Hiscores are currently unavailable (HTTP " + e.getStatusCode() + ")");
         } catch (IOException e) {
             System.err.println("Error fetching player data: " + e.getMessage());
-            if (e.getMessage().contains("404")) {
-                System.err.println("Player not found");
-            } else if (e.getMessage().contains("503")) {
-                System.err.println("OSRS Hiscores are currently unavailable");
-            }
             e.printStackTrace();
         }
     }
@@ -0,0 +1,72 @@
+package com.osrshiscores.apiclient.example;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import com.osrshiscores.apiclient.OsrsApiClient;
+import com.osrshiscores.apiclient.model.input.ClientOptions;
+import com.osrshiscores.apiclient.model.input.HiscoresFormat;
+import com.osrshiscores.apiclient.model.input.HttpOptions;
+import com.osrshiscores.apiclient.model.input.LoadTestOptions;
+import com.osrshiscores.apiclient.model.input.StubServerOptions;
+import com.osrshiscores.apiclient.model.output.LoadTestReport;
+import com.osrshiscores.apiclient.service.impl.AdaptiveRateLimiter;
+import com.osrshiscores.apiclient.testing.LoadGenerator;
+import com.osrshiscores.apiclient.testing.StubHiscoresServer;
+
+/**
+ * Example application load testing the client against a local stub of the hiscores.
+ * The stub answers after 50 to 100 milliseconds and fails 1% of requests, which the client retries.
+ * The first 5 seconds are a warmup and are not included in the report.
+ */
+public final class LoadTestExample {
+    private static final double DEFAULT_REQUESTS_PER_SECOND = 200;
+    private static final int DEFAULT_SECONDS = 10;
+    private static final double ERROR_RATE = 0.01;
+    private static final Duration LATENCY = Duration.ofMillis(50);
+    private static final List<String> ROSTER = List.of("Zezima", "Lynx Titan", "Woox", "B0aty", "Framed");
+
+    private LoadTestExample() {
+        // Utility class, no instantiation needed
+    }
+
+    /**
+     * Main method that runs a load test and prints the report.
+     *
+     * @param args Command line arguments. Optional target requests per second, then optional duration in seconds.
+     * @throws IOException If the stub server cannot be started
+     * @throws InterruptedException If the load test is interrupted
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        double requestsPerSecond = args.length >= 1 ? Double.parseDouble(args[0]) : DEFAULT_REQUESTS_PER_SECOND;
+        int seconds = args.length >= 2 ? Integer.parseInt(args[1]) : DEFAULT_SECONDS;
+
+        try (StubHiscoresServer server = new StubHiscoresServer(StubServerOptions.builder()
+                .latency(LATENCY)
+                .latencyJitter(LATENCY)
+                .errorRate(ERROR_RATE)
+                .build())) {
+            server.setDefaultPayload(StubHiscoresServer.samplePayload());
+            server.setDefaultPayload(HiscoresFormat.JSON, StubHiscoresServer.samplePayload(HiscoresFormat.JSON));
+            server.start();
+
+            // Lift the client's rate limit above the target so the test measures the client, not the limiter
+            OsrsApiClient client = new OsrsApiClient(ClientOptions.builder()
+                    .hiscoresUrl(server.getHiscoresUrl())
+                    .httpOptions(HttpOptions.builder()
+                            .rateLimiter(new AdaptiveRateLimiter(requestsPerSecond * 2, requestsPerSecond))
+                            .build())
+                    .build());
+            LoadTestReport report = new LoadGenerator(client, LoadTestOptions.builder()
+                    .requestsPerSecond(requestsPerSecond)
+                    .duration(Duration.ofSeconds(seconds))
+                    .rsns(ROSTER)
+                    .build()).run();
+
+            System.out.println(report);
+            System.out.printf("Server saw %d requests, %d injected errors%n",
+                    server.getRequestCount(), server.getErrorCount());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.osrshiscores.apiclient.exception;
+
+import java.io.IOException;
+
+/**
+ * Base class for errors reported by the OSRS hiscores.
+ * It extends IOException so existing callers that catch IOException keep working,
+ * while new callers can catch the specific subclasses.
+ */
+public class HiscoresException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Status code used when the error did not come from an HTTP response.
+     */
+    public static final int NO_STATUS = -1;
+
+    /**
+     * The HTTP status code of the response, or NO_STATUS if there was none.
+     */
+    private final int statusCode;
+
+    /**
+     * Creates a new HiscoresException for an unexpected HTTP response.
+     *
+     * @param message The detail message
+     * @param statusCode The HTTP status code of the response
+     */
+    public HiscoresException(String message, int statusCode) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * Creates a new HiscoresException caused by another error.
+     *
+     * @param message The detail message
+     * @param cause The underlying error
+     */
+    public HiscoresException(String message, Throwable cause) {
+        super(message, cause);
+        this.statusCode = NO_STATUS;
+    }
+
+    /**
+     * Returns the HTTP status code of the response that caused this error.
+     *
+     * @return The status code, or NO_STATUS if the error did not come from an HTTP response
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
@@ -0,0 +1,18 @@
+package com.osrshiscores.apiclient.exception;
+
+/**
+ * Thrown when a successful hiscores response cannot be parsed into a player.
+ */
+public class HiscoresParseException extends HiscoresException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a new HiscoresParseException.
+     *
+     * @param message The detail message
+     * @param cause The error raised by the parser
+     */
+    public HiscoresParseException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
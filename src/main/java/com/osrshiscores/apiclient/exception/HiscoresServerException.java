@@ -0,0 +1,18 @@
+package com.osrshiscores.apiclient.exception;
+
+/**
+ * Thrown when the hiscores keep failing with a server error (5xx) after every retry has been used.
+ */
+public class HiscoresServerException extends HiscoresException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a new HiscoresServerException.
+     *
+     * @param message The detail message
+     * @param statusCode The HTTP status code of the response
+     */
+    public HiscoresServerException(String message, int statusCode) {
+        super(message, statusCode);
+    }
+}
@@ -0,0 +1,18 @@
+package com.osrshiscores.apiclient.exception;
+
+/**
+ * Thrown when a name cannot be a RuneScape name, for example because it is too long or contains
+ * characters Jagex does not allow. The name is rejected before any request is sent, so there is no status code.
+ */
+public class InvalidRsnException extends HiscoresException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a new InvalidRsnException.
+     *
+     * @param message The detail message
+     */
+    public InvalidRsnException(String message) {
+        super(message, NO_STATUS);
+    }
+}
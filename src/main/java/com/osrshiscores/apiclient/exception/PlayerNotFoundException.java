@@ -0,0 +1,25 @@
+package com.osrshiscores.apiclient.exception;
+
+/**
+ * Thrown when the hiscores have no entry for the requested player.
+ * This happens for names that were never ranked, have been changed, or belong to deleted accounts.
+ * Being an expected outcome, it does not capture a stack trace.
+ */
+public class PlayerNotFoundException extends HiscoresException {
+    private static final long serialVersionUID = 1L;
+    private static final int STATUS_NOT_FOUND = 404;
+
+    /**
+     * Creates a new PlayerNotFoundException.
+     *
+     * @param message The detail message
+     */
+    public PlayerNotFoundException(String message) {
+        super(message, STATUS_NOT_FOUND);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,42 @@
+package com.osrshiscores.apiclient.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when the hiscores keep throttling requests after every retry has been used.
+ * Being an expected outcome under load, it does not capture a stack trace.
+ */
+public class RateLimitedException extends HiscoresException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * How long the server asked clients to wait, or null if it did not say.
+     */
+    private final Duration retryAfter;
+
+    /**
+     * Creates a new RateLimitedException.
+     *
+     * @param message The detail message
+     * @param statusCode The HTTP status code of the response
+     * @param retryAfter How long the server asked clients to wait, or null if it did not say
+     */
+    public RateLimitedException(String message, int statusCode, Duration retryAfter) {
+        super(message, statusCode);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Returns how long the server asked clients to wait before retrying.
+     *
+     * @return The requested wait, or null if the server did not specify one
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
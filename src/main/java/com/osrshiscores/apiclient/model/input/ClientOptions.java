@@ -0,0 +1,82 @@
+package com.osrshiscores.apiclient.model.input;
+
+import com.osrshiscores.apiclient.service.ClientMetrics;
+import com.osrshiscores.apiclient.service.NegativeCache;
+import com.osrshiscores.apiclient.service.PlayerCache;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Options for configuring an OsrsApiClient instance.
+ * Unlike FetchOptions, these settings apply to every request made by the client.
+ */
+@Value
+@Builder
+public class ClientOptions {
+    /**
+     * The default base URL of the hiscores, to which the game mode's table and the endpoint are appended.
+     */
+    public static final String DEFAULT_HISCORES_URL = "https://secure.runescape.com/m=";
+
+    private static final int DEFAULT_MAX_REFRESH_FINGERPRINTS = 10_000;
+
+    /**
+     * Whether blocking fetches, including bulk lookups and the HTTP transport, should run on virtual threads.
+     * Requires Java 21 or newer at runtime.
+     */
+    private final boolean useVirtualThreads;
+
+    /**
+     * Transport options for the HTTP service the client creates, including which HTTP client library to use.
+     * If null, the defaults are used. Ignored when the client is given its own HttpService.
+     */
+    private final HttpOptions httpOptions;
+
+    /**
+     * Base URL of the hiscores, to which the game mode's table and the endpoint are appended.
+     * Point it at a StubHiscoresServer to test against a local server. Defaults to {@link #DEFAULT_HISCORES_URL}.
+     */
+    @Builder.Default
+    private final String hiscoresUrl = DEFAULT_HISCORES_URL;
+
+    /**
+     * Cache placed in front of the hiscores for player lookups, keyed by normalized RSN and by the fetch options
+     * that change the parsed result (mode, format, virtual levels and a non-default schema).
+     * If null, every lookup goes to the network.
+     */
+    private final PlayerCache playerCache;
+
+    /**
+     * Cache of players the hiscores reported as not found, keyed by normalized RSN.
+     * Lookups for a remembered player fail with PlayerNotFoundException without a network call.
+     * If null, missing players are looked up again every time.
+     */
+    private final NegativeCache negativeCache;
+
+    /**
+     * Receives lookup, parse and cache measurements, and request measurements from the HTTP service
+     * the client creates. Defaults to a no-op.
+     */
+    @Builder.Default
+    private final ClientMetrics metrics = ClientMetrics.NOOP;
+
+    /**
+     * The maximum number of players whose entity tag and body fingerprint are remembered for refreshPlayer.
+     * The least recently refreshed player is forgotten first. Defaults to 10,000 players.
+     */
+    @Builder.Default
+    private final int maxRefreshFingerprints = DEFAULT_MAX_REFRESH_FINGERPRINTS;
+
+    /**
+     * Creates default client options.
+     * By default, the client uses platform threads and does not cache lookups.
+     *
+     * @return Default ClientOptions instance
+     */
+    public static ClientOptions defaults() {
+        return ClientOptions.builder()
+                .useVirtualThreads(false)
+                .build();
+    }
+}
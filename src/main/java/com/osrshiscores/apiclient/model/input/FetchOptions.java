@@ -8,8 +8,10 @@ import lombok.Value;
  * This class provides configuration options for how the data should be fetched and processed.
  */
 @Value
-@Builder
+@Builder(toBuilder = true)
 public class FetchOptions {
+    private static final int DEFAULT_MAX_CONCURRENCY = 8;
+
     /**
      * Whether to calculate virtual levels above 99 based on experience points.
      * If true, skills can show levels above 99 if the player has enough experience.
@@ -17,6 +19,42 @@ public class FetchOptions {
      */
     private final boolean calculateVirtualLevels;
 
+    /**
+     * The maximum number of lookups a bulk fetch may run at the same time.
+     * Defaults to 8 concurrent requests.
+     */
+    @Builder.Default
+    private final int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+    /**
+     * The schema describing the rows of the hiscores response.
+     * Defaults to the schema bundled with this library.
+     */
+    @Builder.Default
+    private final HiscoresSchema schema = HiscoresSchema.defaultSchema();
+
+    /**
+     * Whether to reject CSV responses with more rows than the schema lists.
+     * Rows appended after the known ones are harmless, but content inserted mid-list shifts every later row
+     * onto the wrong name; a strict check turns an outdated schema into a parse error instead.
+     * Defaults to false, ignoring extra rows.
+     */
+    private final boolean strictSchema;
+
+    /**
+     * The response format to request from the hiscores.
+     * Defaults to the CSV endpoint; the JSON endpoint takes names and ids from the payload instead of the schema.
+     */
+    @Builder.Default
+    private final HiscoresFormat format = HiscoresFormat.CSV;
+
+    /**
+     * The game mode whose hiscores table is queried.
+     * Defaults to the main hiscores.
+     */
+    @Builder.Default
+    private final HiscoresMode mode = HiscoresMode.NORMAL;
+
     /**
      * Creates default fetch options.
      * By default, virtual levels are disabled.
@@ -0,0 +1,31 @@
+package com.osrshiscores.apiclient.model.input;
+
+/**
+ * The response format requested from the OSRS hiscores.
+ */
+public enum HiscoresFormat {
+    /**
+     * Positional CSV rows from {@code index_lite.ws}. Names are taken from the HiscoresSchema.
+     */
+    CSV("index_lite.ws"),
+
+    /**
+     * Self-describing JSON from {@code index_lite.json}. Names and ids are taken from the payload.
+     */
+    JSON("index_lite.json");
+
+    private final String endpoint;
+
+    HiscoresFormat(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Returns the hiscores endpoint serving this format.
+     *
+     * @return The endpoint file name
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+}
@@ -0,0 +1,72 @@
+package com.osrshiscores.apiclient.model.input;
+
+/**
+ * The game mode whose hiscores table is queried.
+ * Each mode is served by its own table on the OSRS hiscores.
+ */
+public enum HiscoresMode {
+    /**
+     * The main hiscores, covering every account.
+     */
+    NORMAL("hiscore_oldschool"),
+
+    /**
+     * Ironman accounts, including hardcore and ultimate ironmen.
+     */
+    IRONMAN("hiscore_oldschool_ironman"),
+
+    /**
+     * Hardcore ironman accounts that have not lost their hardcore status.
+     */
+    HARDCORE_IRONMAN("hiscore_oldschool_hardcore_ironman"),
+
+    /**
+     * Ultimate ironman accounts.
+     */
+    ULTIMATE_IRONMAN("hiscore_oldschool_ultimate"),
+
+    /**
+     * Deadman Mode.
+     */
+    DEADMAN("hiscore_oldschool_deadman"),
+
+    /**
+     * Seasonal game modes, such as Leagues.
+     */
+    SEASONAL("hiscore_oldschool_seasonal"),
+
+    /**
+     * Tournament worlds.
+     */
+    TOURNAMENT("hiscore_oldschool_tournament"),
+
+    /**
+     * Fresh Start worlds.
+     */
+    FRESH_START("hiscore_oldschool_fresh_start"),
+
+    /**
+     * Level 1 Defence accounts.
+     */
+    PURE("hiscore_oldschool_skiller_defence"),
+
+    /**
+     * Level 3 skiller accounts.
+     */
+    SKILLER("hiscore_oldschool_skiller");
+
+    private final String table;
+
+    HiscoresMode(String table) {
+        this.table = table;
+    }
+
+    /**
+     * Returns the name of the hiscores table serving this mode.
+     *
+     * @return The hiscores table name, as used in the request URL
+     */
+    public String getTable() {
+        return table;
+    }
+}
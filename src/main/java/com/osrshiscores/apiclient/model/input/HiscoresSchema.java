@@ -0,0 +1,227 @@
+package com.osrshiscores.apiclient.model.input;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Describes the rows of a hiscores response: which skills and activities it contains, and in which order.
+ * A schema is resolved once into index tables, so mapping a row ordinal to its name, or a name to its id,
+ * is a plain array or hash lookup. When Jagex adds new content, a newer schema can be loaded without a new build.
+ *
+ * <p>Schemas are loaded from a text format with a {@code version=} line, a {@code [skills]} section
+ * and an {@code [activities]} section, each listing one name per line. Blank lines and lines starting
+ * with {@code #} are ignored.</p>
+ */
+public final class HiscoresSchema {
+    private static final String DEFAULT_RESOURCE = "/hiscores-schema.txt";
+    private static final String VERSION_PREFIX = "version=";
+    private static final String SKILLS_SECTION = "[skills]";
+    private static final String ACTIVITIES_SECTION = "[activities]";
+    private static final String COMMENT_PREFIX = "#";
+
+    private final String version;
+    private final String[] skillNames;
+    private final String[] activityNames;
+    private final Map<String, Integer> skillIds;
+    private final Map<String, Integer> activityIds;
+
+    private HiscoresSchema(String version, List<String> skillNames, List<String> activityNames) {
+        if (skillNames.isEmpty()) {
+            throw new IllegalArgumentException("A hiscores schema needs at least one skill");
+        }
+
+        this.version = version;
+        this.skillNames = skillNames.toArray(new String[0]);
+        this.activityNames = activityNames.toArray(new String[0]);
+        this.skillIds = indexByName(this.skillNames);
+        this.activityIds = indexByName(this.activityNames);
+    }
+
+    /**
+     * Returns the schema bundled with this library.
+     *
+     * @return The default hiscores schema
+     */
+    public static HiscoresSchema defaultSchema() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Creates a schema from explicit lists of names.
+     *
+     * @param version A label identifying this revision of the schema
+     * @param skillNames The skill names, in response order, starting with Overall
+     * @param activityNames The activity names, in response order
+     * @return A new HiscoresSchema
+     */
+    public static HiscoresSchema of(String version, List<String> skillNames, List<String> activityNames) {
+        return new HiscoresSchema(version, skillNames, activityNames);
+    }
+
+    /**
+     * Loads a schema from its text representation. The stream is not closed.
+     *
+     * @param input Stream over the UTF-8 schema text
+     * @return The loaded HiscoresSchema
+     * @throws IOException If the stream cannot be read
+     * @throws IllegalArgumentException If the text is not a valid schema
+     */
+    public static HiscoresSchema load(InputStream input) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String version = null;
+        List<String> skills = new ArrayList<>();
+        List<String> activities = new ArrayList<>();
+        List<String> section = null;
+
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            if (trimmed.startsWith(VERSION_PREFIX)) {
+                version = trimmed.substring(VERSION_PREFIX.length()).trim();
+            } else if (SKILLS_SECTION.equals(trimmed)) {
+                section = skills;
+            } else if (ACTIVITIES_SECTION.equals(trimmed)) {
+                section = activities;
+            } else if (section == null) {
+                throw new IllegalArgumentException("Schema entry outside of a section: " + trimmed);
+            } else {
+                section.add(trimmed);
+            }
+        }
+
+        if (version == null) {
+            throw new IllegalArgumentException("Schema is missing a version line");
+        }
+        return new HiscoresSchema(version, skills, activities);
+    }
+
+    /**
+     * Returns the label identifying this revision of the schema.
+     *
+     * @return The schema version
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the number of skill rows in a response.
+     *
+     * @return The skill count, including Overall
+     */
+    public int getSkillCount() {
+        return skillNames.length;
+    }
+
+    /**
+     * Returns the number of activity rows in a response.
+     *
+     * @return The activity count
+     */
+    public int getActivityCount() {
+        return activityNames.length;
+    }
+
+    /**
+     * Returns the name of a skill.
+     *
+     * @param skillId The skill id
+     * @return The skill name
+     */
+    public String getSkillName(int skillId) {
+        return skillNames[skillId];
+    }
+
+    /**
+     * Returns the name of an activity.
+     *
+     * @param activityId The activity id
+     * @return The activity name
+     */
+    public String getActivityName(int activityId) {
+        return activityNames[activityId];
+    }
+
+    /**
+     * Looks up a skill id by name, ignoring case.
+     *
+     * @param name The skill name
+     * @return The skill id, or -1 if the schema has no such skill
+     */
+    public int findSkillId(String name) {
+        return skillIds.getOrDefault(name.toLowerCase(Locale.ROOT), -1);
+    }
+
+    /**
+     * Looks up an activity id by name, ignoring case.
+     *
+     * @param name The activity name
+     * @return The activity id, or -1 if the schema has no such activity
+     */
+    public int findActivityId(String name) {
+        return activityIds.getOrDefault(name.toLowerCase(Locale.ROOT), -1);
+    }
+
+    /**
+     * Returns the skill names, in response order.
+     *
+     * @return An unmodifiable list of skill names
+     */
+    public List<String> getSkillNames() {
+        return List.of(skillNames);
+    }
+
+    /**
+     * Returns the activity names, in response order.
+     *
+     * @return An unmodifiable list of activity names
+     */
+    public List<String> getActivityNames() {
+        return List.of(activityNames);
+    }
+
+    @Override
+    public String toString() {
+        return "HiscoresSchema(version=" + version + ", skills=" + skillNames.length
+                + ", activities=" + activityNames.length + ")";
+    }
+
+    private static Map<String, Integer> indexByName(String[] names) {
+        Map<String, Integer> ids = new HashMap<>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            ids.putIfAbsent(names[i].toLowerCase(Locale.ROOT), i);
+        }
+        return Collections.unmodifiableMap(ids);
+    }
+
+    /**
+     * Lazily loads the bundled schema the first time it is needed.
+     */
+    private static final class DefaultHolder {
+        private static final HiscoresSchema INSTANCE = loadDefault();
+
+        private static HiscoresSchema loadDefault() {
+            try (InputStream input = HiscoresSchema.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+                if (input == null) {
+                    throw new IllegalStateException("Missing bundled hiscores schema " + DEFAULT_RESOURCE);
+                }
+                return load(input);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.osrshiscores.apiclient.model.input;
+
+import java.time.Duration;
+
+import com.osrshiscores.apiclient.service.ClientMetrics;
+import com.osrshiscores.apiclient.service.RateLimiter;
+import com.osrshiscores.apiclient.service.impl.AdaptiveRateLimiter;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Options for configuring the HTTP transport used to reach the OSRS hiscores.
+ */
+@Value
+@Builder(toBuilder = true)
+public class HttpOptions {
+    /**
+     * The HTTP client library used to send requests.
+     * Defaults to Java's built-in HttpClient.
+     */
+    @Builder.Default
+    private final HttpTransport transport = HttpTransport.JDK;
+
+    /**
+     * Whether the underlying HttpClient should run its work on virtual threads.
+     * Requires Java 21 or newer at runtime.
+     */
+    private final boolean useVirtualThreads;
+
+    /**
+     * The maximum time to establish a connection.
+     * Defaults to 10 seconds.
+     */
+    @Builder.Default
+    private final Duration connectTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Whether to prefer HTTP/2, which multiplexes concurrent requests over a single connection.
+     * Falls back to HTTP/1.1 if the server does not support it. Defaults to true.
+     */
+    @Builder.Default
+    private final boolean http2 = true;
+
+    /**
+     * Whether to request gzip-compressed responses. Defaults to true.
+     */
+    @Builder.Default
+    private final boolean compression = true;
+
+    /**
+     * The maximum number of idle connections kept open for reuse.
+     * Only applied by the OkHttp transport. Defaults to 5.
+     */
+    @Builder.Default
+    private final int maxIdleConnections = 5;
+
+    /**
+     * How long an idle connection is kept open for reuse.
+     * Only applied by the OkHttp transport. Defaults to 5 minutes.
+     */
+    @Builder.Default
+    private final Duration keepAlive = Duration.ofMinutes(5);
+
+    /**
+     * Limits how fast requests are sent to the hiscores.
+     * Defaults to the adaptive limiter shared by every client in the JVM.
+     */
+    @Builder.Default
+    private final RateLimiter rateLimiter = AdaptiveRateLimiter.shared();
+
+    /**
+     * The maximum time a single attempt may take before it is abandoned.
+     * Defaults to 30 seconds.
+     */
+    @Builder.Default
+    private final Duration requestTimeout = Duration.ofSeconds(30);
+
+    /**
+     * The maximum total time for a request, including every retry and backoff.
+     * If null, only the per-attempt timeout applies.
+     */
+    private final Duration deadline;
+
+    /**
+     * The maximum number of retries after a transient failure (I/O error, 429 or 5xx response).
+     * Defaults to 2 retries.
+     */
+    @Builder.Default
+    private final int maxRetries = 2;
+
+    /**
+     * The backoff before the first retry. Each further retry doubles it, up to maxBackoff,
+     * and the actual wait is drawn uniformly between zero and that value.
+     * Defaults to 200 milliseconds.
+     */
+    @Builder.Default
+    private final Duration initialBackoff = Duration.ofMillis(200);
+
+    /**
+     * The upper bound for the backoff between retries.
+     * Without a deadline, it also caps how long a Retry-After header is honored: a longer Retry-After
+     * ends the retries with a RateLimitedException carrying the requested delay.
+     * Defaults to 5 seconds.
+     */
+    @Builder.Default
+    private final Duration maxBackoff = Duration.ofSeconds(5);
+
+    /**
+     * Receives request, retry and hedge measurements.
+     * Defaults to a no-op; the client passes its own metrics on when it creates the HTTP service.
+     */
+    @Builder.Default
+    private final ClientMetrics metrics = ClientMetrics.NOOP;
+
+    /**
+     * The latency quantile after which a second, hedged request is sent if the first has not completed.
+     * For example, 0.95 hedges requests slower than the recent p95 latency.
+     * A value of 0 disables hedging, which is the default.
+     */
+    private final double hedgeQuantile;
+
+    /**
+     * Creates default HTTP options.
+     * By default, requests use Java's HttpClient over HTTP/2 with gzip compression,
+     * the client uses its own platform-thread executor and the JVM-wide shared rate limiter,
+     * each attempt times out after 30 seconds, transient failures are retried twice and hedging is disabled.
+     *
+     * @return Default HttpOptions instance
+     */
+    public static HttpOptions defaults() {
+        return HttpOptions.builder()
+                .useVirtualThreads(false)
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.osrshiscores.apiclient.model.input;
+
+/**
+ * The HTTP client library used to reach the hiscores.
+ */
+public enum HttpTransport {
+    /**
+     * Java's built-in java.net.http.HttpClient.
+     */
+    JDK,
+
+    /**
+     * OkHttp, whose connection pool size and keep-alive can be tuned per client.
+     */
+    OKHTTP
+}
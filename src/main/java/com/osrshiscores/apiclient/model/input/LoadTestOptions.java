@@ -0,0 +1,48 @@
+package com.osrshiscores.apiclient.model.input;
+
+import java.time.Duration;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Options for configuring a LoadGenerator.
+ */
+@Value
+@Builder
+public class LoadTestOptions {
+    /**
+     * The target rate of lookups. Lookups are started at evenly spaced times at this rate,
+     * whether or not earlier lookups have completed. Defaults to 10 per second, under the 20 per second that
+     * the shared AdaptiveRateLimiter starts at. A higher target needs a client whose rate limiter allows it,
+     * or the report measures the limiter rather than the client.
+     */
+    @Builder.Default
+    private final double requestsPerSecond = 10.0;
+
+    /**
+     * How long to run at the target rate before measuring, so connection setup and JIT compilation
+     * do not skew the results. Lookups started during the warmup are not reported. Defaults to 5 seconds.
+     */
+    @Builder.Default
+    private final Duration warmup = Duration.ofSeconds(5);
+
+    /**
+     * How long to keep starting measured lookups. Defaults to 30 seconds.
+     */
+    @Builder.Default
+    private final Duration duration = Duration.ofSeconds(30);
+
+    /**
+     * The RuneScape names to look up, used in turn. Must not be empty.
+     */
+    private final List<String> rsns;
+
+    /**
+     * Options for each lookup, such as the game mode or format.
+     * Defaults to FetchOptions.defaults().
+     */
+    @Builder.Default
+    private final FetchOptions fetchOptions = FetchOptions.defaults();
+}
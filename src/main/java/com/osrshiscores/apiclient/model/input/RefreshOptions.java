@@ -0,0 +1,58 @@
+package com.osrshiscores.apiclient.model.input;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Options for configuring a RefreshScheduler.
+ */
+@Value
+@Builder
+public class RefreshOptions {
+    /**
+     * The global request budget. Refreshes are sent at evenly spaced ticks at this rate,
+     * and ticks with no player due are skipped. Defaults to 1 request per second.
+     */
+    @Builder.Default
+    private final double requestsPerSecond = 1.0;
+
+    /**
+     * How often a player who recently gained experience or activity score is refreshed.
+     * Newly tracked players start at this interval. Defaults to 10 minutes.
+     */
+    @Builder.Default
+    private final Duration minInterval = Duration.ofMinutes(10);
+
+    /**
+     * How often an inactive player is refreshed at most. Each refresh without gains doubles a player's interval,
+     * up to this bound. Defaults to 6 hours.
+     */
+    @Builder.Default
+    private final Duration maxInterval = Duration.ofHours(6);
+
+    /**
+     * The maximum number of refreshes in flight at once.
+     * Defaults to 4.
+     */
+    @Builder.Default
+    private final int maxConcurrency = 4;
+
+    /**
+     * Options for each refresh, such as the game mode or virtual levels.
+     * Defaults to FetchOptions.defaults().
+     */
+    @Builder.Default
+    private final FetchOptions fetchOptions = FetchOptions.defaults();
+
+    /**
+     * Creates default refresh options.
+     * By default, one refresh is sent per second and players are refreshed between every 10 minutes and every 6 hours.
+     *
+     * @return Default RefreshOptions instance
+     */
+    public static RefreshOptions defaults() {
+        return RefreshOptions.builder().build();
+    }
+}
@@ -0,0 +1,145 @@
+package com.osrshiscores.apiclient.model.input;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A RuneScape name as spelled, together with its canonical form.
+ * Jagex treats names case-insensitively and treats spaces, underscores and hyphens as the same character,
+ * so "Zezima", "zezima " and "ZEZIMA_" all name the same player. Two Rsn instances are equal if their
+ * canonical forms are equal, whatever their spelling.
+ * Canonical forms are interned, so maps keyed by them share one copy of each name however many spellings
+ * are looked up. Interning only saves memory; equality never depends on it.
+ */
+public final class Rsn {
+    /**
+     * The maximum length of a RuneScape name.
+     */
+    public static final int MAX_LENGTH = 12;
+
+    private static final int MAX_INTERNED_BITS = 20;
+    private static final int MAX_INTERNED = 1 << MAX_INTERNED_BITS;
+    private static final char NO_BREAK_SPACE = '\u00A0';
+    private static final Map<String, String> INTERNED = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final String canonical;
+
+    private Rsn(String name, String canonical) {
+        this.name = name;
+        this.canonical = canonical;
+    }
+
+    /**
+     * Parses a RuneScape name as typed.
+     * Leading and trailing separators are dropped and runs of separators collapse to one space; case is kept.
+     * Up to about a million distinct canonical names are interned; beyond that, new names get their own copy.
+     *
+     * @param rsn The name as typed
+     * @return The Rsn for that name
+     * @throws IllegalArgumentException If the name is empty, longer than {@value #MAX_LENGTH} characters,
+     *                                  or contains characters other than letters, digits and separators
+     */
+    public static Rsn of(String rsn) {
+        String name = normalize(rsn);
+        if (name.isEmpty() || name.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("RuneScape names must be 1 to " + MAX_LENGTH + " characters: " + rsn);
+        }
+        return new Rsn(name, intern(toLowerCase(name)));
+    }
+
+    /**
+     * Returns the name as spelled, with separators normalized to single spaces but case preserved,
+     * for example "Zezima" or "Iron Man".
+     *
+     * @return The display name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the canonical form of the name: lower case, with single spaces as separators.
+     * Every spelling of a name has the same canonical form.
+     *
+     * @return The canonical name
+     */
+    public String getCanonical() {
+        return canonical;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Rsn && canonical.equals(((Rsn) o).canonical);
+    }
+
+    @Override
+    public int hashCode() {
+        return canonical.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    private static String normalize(String rsn) {
+        StringBuilder name = new StringBuilder(rsn.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < rsn.length(); i++) {
+            char c = rsn.charAt(i);
+            if (isSeparator(c)) {
+                pendingSpace = name.length() > 0;
+            } else if (isAsciiLetterOrDigit(c)) {
+                if (pendingSpace) {
+                    name.append(' ');
+                    pendingSpace = false;
+                }
+                name.append(c);
+            } else {
+                throw new IllegalArgumentException("Invalid character in RuneScape name: " + rsn);
+            }
+        }
+        return name.toString();
+    }
+
+    private static String intern(String canonical) {
+        String interned = INTERNED.get(canonical);
+        if (interned != null) {
+            return interned;
+        }
+        if (INTERNED.size() >= MAX_INTERNED) {
+            return canonical;
+        }
+        interned = INTERNED.putIfAbsent(canonical, canonical);
+        return interned != null ? interned : canonical;
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == '_' || c == '-' || c == NO_BREAK_SPACE;
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return isAsciiUpperCase(c) || isInRange(c, 'a', 'z') || isInRange(c, '0', '9');
+    }
+
+    private static boolean isAsciiUpperCase(char c) {
+        return isInRange(c, 'A', 'Z');
+    }
+
+    private static boolean isInRange(char c, char first, char last) {
+        return c >= first && c <= last;
+    }
+
+    private static String toLowerCase(String name) {
+        char[] lower = new char[name.length()];
+        for (int i = 0; i < lower.length; i++) {
+            char c = name.charAt(i);
+            lower[i] = isAsciiUpperCase(c) ? (char) (c + ('a' - 'A')) : c;
+        }
+        return new String(lower);
+    }
+}
@@ -0,0 +1,66 @@
+package com.osrshiscores.apiclient.model.input;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Options for configuring a StubHiscoresServer.
+ * The error and throttle rates are independent probabilities per request; together they must not exceed 1.
+ */
+@Value
+@Builder
+public class StubServerOptions {
+    /**
+     * The port to listen on, or 0 to pick a free port. Defaults to 0.
+     */
+    @Builder.Default
+    private final int port = 0;
+
+    /**
+     * How long the server waits before answering each request. Defaults to 50 milliseconds.
+     */
+    @Builder.Default
+    private final Duration latency = Duration.ofMillis(50);
+
+    /**
+     * A random extra delay of up to this much is added to each request's latency. Defaults to zero.
+     */
+    @Builder.Default
+    private final Duration latencyJitter = Duration.ZERO;
+
+    /**
+     * The fraction of requests answered with 503 Service Unavailable. Defaults to 0.
+     */
+    @Builder.Default
+    private final double errorRate = 0.0;
+
+    /**
+     * The fraction of requests answered with 429 Too Many Requests and a Retry-After header. Defaults to 0.
+     */
+    @Builder.Default
+    private final double throttleRate = 0.0;
+
+    /**
+     * The Retry-After value sent with throttled responses, rounded up to whole seconds. Defaults to 1 second.
+     */
+    @Builder.Default
+    private final Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * The number of threads sending delayed responses. Defaults to 4.
+     */
+    @Builder.Default
+    private final int responderThreads = 4;
+
+    /**
+     * Creates default stub server options.
+     * By default, the server listens on a free port and answers every request after 50 milliseconds.
+     *
+     * @return Default StubServerOptions instance
+     */
+    public static StubServerOptions defaults() {
+        return StubServerOptions.builder().build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.osrshiscores.apiclient.model.output;
+
+import lombok.Value;
+
+/**
+ * A point-in-time snapshot of a player cache's counters.
+ */
+@Value
+public class CacheStats {
+    /**
+     * The number of lookups answered from the cache.
+     */
+    private final long hits;
+
+    /**
+     * The number of lookups that triggered a load from the hiscores.
+     */
+    private final long misses;
+
+    /**
+     * The number of lookups that joined a load already in flight for the same key.
+     */
+    private final long coalesced;
+
+    /**
+     * The number of entries removed to keep the cache within its size bound.
+     */
+    private final long evictions;
+
+    /**
+     * The number of entries currently held by the cache.
+     */
+    private final int size;
+
+    /**
+     * Creates a new CacheStats instance.
+     *
+     * @param hits The number of lookups answered from the cache
+     * @param misses The number of lookups that triggered a load
+     * @param coalesced The number of lookups that joined an in-flight load
+     * @param evictions The number of entries evicted to respect the size bound
+     * @param size The number of entries currently cached
+     */
+    public CacheStats(long hits, long misses, long coalesced, long evictions, int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.coalesced = coalesced;
+        this.evictions = evictions;
+        this.size = size;
+    }
+}
@@ -0,0 +1,55 @@
+package com.osrshiscores.apiclient.model.output;
+
+import lombok.Value;
+
+/**
+ * Represents the outcome of a conditional GET request.
+ * The response holds either a new body or the server's confirmation that the previous body is still current.
+ */
+@Value
+public final class ConditionalResponse {
+    /**
+     * The response body, or null if the server reported it unchanged.
+     */
+    private final String body;
+
+    /**
+     * The entity tag identifying this version of the body, or null if the server sent none.
+     */
+    private final String etag;
+
+    private ConditionalResponse(String body, String etag) {
+        this.body = body;
+        this.etag = etag;
+    }
+
+    /**
+     * Creates a response carrying a new body.
+     *
+     * @param body The response body
+     * @param etag The entity tag sent with the body, or null
+     * @return A modified ConditionalResponse
+     */
+    public static ConditionalResponse modified(String body, String etag) {
+        return new ConditionalResponse(body, etag);
+    }
+
+    /**
+     * Creates a response for a server that answered 304 Not Modified.
+     *
+     * @param etag The entity tag of the unchanged body
+     * @return A not-modified ConditionalResponse
+     */
+    public static ConditionalResponse notModified(String etag) {
+        return new ConditionalResponse(null, etag);
+    }
+
+    /**
+     * Returns whether the server reported the body unchanged.
+     *
+     * @return true if there is no new body, false otherwise
+     */
+    public boolean isNotModified() {
+        return body == null;
+    }
+}
@@ -0,0 +1,24 @@
+package com.osrshiscores.apiclient.model.output;
+
+import lombok.Value;
+
+/**
+ * Represents a player's standing on a local leaderboard.
+ */
+@Value
+public class LeaderboardEntry {
+    /**
+     * The 1-based rank of the player on the leaderboard.
+     */
+    private final int rank;
+
+    /**
+     * The RuneScape name of the player.
+     */
+    private final String rsn;
+
+    /**
+     * The experience or score the player is ranked by.
+     */
+    private final long value;
+}
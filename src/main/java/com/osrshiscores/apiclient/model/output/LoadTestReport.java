@@ -0,0 +1,82 @@
+package com.osrshiscores.apiclient.model.output;
+
+import java.time.Duration;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Represents the results of a load test run by a LoadGenerator.
+ * Latencies are measured from the time each lookup was scheduled to start, not the time it actually started,
+ * so a client that falls behind the target rate shows up in the percentiles instead of hiding the delay.
+ */
+@Value
+@Builder
+public class LoadTestReport {
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    /**
+     * The number of lookups started.
+     */
+    private final long requestCount;
+
+    /**
+     * The number of lookups that returned a player.
+     */
+    private final long successCount;
+
+    /**
+     * The number of lookups that failed, for any reason.
+     */
+    private final long failureCount;
+
+    /**
+     * The number of failed lookups by exception type.
+     */
+    private final Map<String, Long> errorCounts;
+
+    /**
+     * The time from the first lookup starting to the last one completing.
+     */
+    private final Duration elapsed;
+
+    /**
+     * The median lookup latency.
+     */
+    private final Duration latencyP50;
+
+    /**
+     * The 90th percentile lookup latency.
+     */
+    private final Duration latencyP90;
+
+    /**
+     * The 99th percentile lookup latency.
+     */
+    private final Duration latencyP99;
+
+    /**
+     * The highest lookup latency.
+     */
+    private final Duration latencyMax;
+
+    /**
+     * Returns the number of successful lookups per second over the whole run.
+     *
+     * @return The achieved throughput
+     */
+    public double getThroughput() {
+        long elapsedNanos = elapsed.toNanos();
+        return elapsedNanos == 0 ? 0.0 : successCount * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("requests=%d success=%d failures=%d elapsed=%dms throughput=%.1f/s "
+                        + "p50=%dms p90=%dms p99=%dms max=%dms errors=%s",
+                requestCount, successCount, failureCount, elapsed.toMillis(), getThroughput(),
+                latencyP50.toMillis(), latencyP90.toMillis(), latencyP99.toMillis(), latencyMax.toMillis(),
+                errorCounts);
+    }
+}
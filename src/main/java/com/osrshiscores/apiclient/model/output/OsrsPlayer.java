@@ -46,4 +46,21 @@ public class OsrsPlayer {
         this.skills = Collections.unmodifiableList(new ArrayList<>(skills));
         this.activities = Collections.unmodifiableList(new ArrayList<>(activities));
     }
+
+    private OsrsPlayer(String rsn, OsrsPlayer source) {
+        this.rsn = rsn;
+        this.skills = source.skills;
+        this.activities = source.activities;
+    }
+
+    /**
+     * Returns the same hiscores reported under another name, for example another spelling of the same player.
+     * The skill and activity lists are shared rather than copied.
+     *
+     * @param rsn The RuneScape name to report
+     * @return An OsrsPlayer with the given name and this player's skills and activities
+     */
+    public OsrsPlayer withRsn(String rsn) {
+        return new OsrsPlayer(rsn, this);
+    }
 }
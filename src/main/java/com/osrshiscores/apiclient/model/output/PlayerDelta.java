@@ -0,0 +1,188 @@
+package com.osrshiscores.apiclient.model.output;
+
+import com.osrshiscores.apiclient.model.input.HiscoresSchema;
+
+/**
+ * Immutable set of gains between two snapshots of the same player, backed by primitive arrays.
+ * Values are indexed by skill or activity id. Unranked entries count as zero experience or score,
+ * and rank changes are zero when the player is unranked in either snapshot.
+ */
+public final class PlayerDelta {
+    private final String rsn;
+    private final HiscoresSchema schema;
+    private final long[] xpGained;
+    private final int[] levelsGained;
+    private final int[] skillRankChanges;
+    private final int[] scoreGained;
+    private final int[] activityRankChanges;
+
+    private PlayerDelta(String rsn, HiscoresSchema schema, long[] xpGained, int[] levelsGained,
+            int[] skillRankChanges, int[] scoreGained, int[] activityRankChanges) {
+        this.rsn = rsn;
+        this.schema = schema;
+        this.xpGained = xpGained;
+        this.levelsGained = levelsGained;
+        this.skillRankChanges = skillRankChanges;
+        this.scoreGained = scoreGained;
+        this.activityRankChanges = activityRankChanges;
+    }
+
+    /**
+     * Computes the gains between two snapshots in a single pass over each array.
+     *
+     * @param before The earlier snapshot
+     * @param after The later snapshot
+     * @return The changes from before to after, named after the later snapshot
+     */
+    public static PlayerDelta between(PlayerSnapshot before, PlayerSnapshot after) {
+        int skillCount = after.getSkillCount();
+        int activityCount = after.getActivityCount();
+        if (before.getSkillCount() != skillCount || before.getActivityCount() != activityCount) {
+            throw new IllegalArgumentException("Snapshots of " + after.getRsn() + " use different schemas");
+        }
+
+        long[] xpGained = new long[skillCount];
+        int[] levelsGained = new int[skillCount];
+        int[] skillRankChanges = new int[skillCount];
+        for (int i = 0; i < skillCount; i++) {
+            xpGained[i] = Math.max(after.getSkillXp(i), 0) - Math.max(before.getSkillXp(i), 0);
+            levelsGained[i] = after.getSkillLevel(i) - before.getSkillLevel(i);
+            skillRankChanges[i] = rankChange(before.getSkillRank(i), after.getSkillRank(i));
+        }
+
+        int[] scoreGained = new int[activityCount];
+        int[] activityRankChanges = new int[activityCount];
+        for (int i = 0; i < activityCount; i++) {
+            scoreGained[i] = Math.max(after.getActivityScore(i), 0) - Math.max(before.getActivityScore(i), 0);
+            activityRankChanges[i] = rankChange(before.getActivityRank(i), after.getActivityRank(i));
+        }
+
+        return new PlayerDelta(after.getRsn(), after.getSchema(),
+                xpGained, levelsGained, skillRankChanges, scoreGained, activityRankChanges);
+    }
+
+    /**
+     * Computes the gains between two fully materialized players.
+     *
+     * @param before The earlier state of the player
+     * @param after The later state of the player
+     * @return The changes from before to after
+     */
+    public static PlayerDelta between(OsrsPlayer before, OsrsPlayer after) {
+        return between(PlayerSnapshot.from(before), PlayerSnapshot.from(after));
+    }
+
+    private static int rankChange(int before, int after) {
+        return before < 0 || after < 0 ? 0 : before - after;
+    }
+
+    /**
+     * Returns the player's RuneScape name, as given by the later snapshot.
+     *
+     * @return The RuneScape name
+     */
+    public String getRsn() {
+        return rsn;
+    }
+
+    /**
+     * Returns the schema the delta's skill and activity ids refer to.
+     *
+     * @return The hiscores schema
+     */
+    public HiscoresSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Returns the number of skills in this delta.
+     *
+     * @return The skill count
+     */
+    public int getSkillCount() {
+        return xpGained.length;
+    }
+
+    /**
+     * Returns the number of activities in this delta.
+     *
+     * @return The activity count
+     */
+    public int getActivityCount() {
+        return scoreGained.length;
+    }
+
+    /**
+     * Returns the experience points gained in a skill.
+     *
+     * @param skillId The skill id
+     * @return The experience gained, negative only if the hiscores reset the skill
+     */
+    public long getXpGained(int skillId) {
+        return xpGained[skillId];
+    }
+
+    /**
+     * Returns the levels gained in a skill.
+     *
+     * @param skillId The skill id
+     * @return The levels gained
+     */
+    public int getLevelsGained(int skillId) {
+        return levelsGained[skillId];
+    }
+
+    /**
+     * Returns how many places the player climbed in a skill.
+     *
+     * @param skillId The skill id
+     * @return The ranks climbed, negative if the player dropped, or 0 if unranked in either snapshot
+     */
+    public int getSkillRankChange(int skillId) {
+        return skillRankChanges[skillId];
+    }
+
+    /**
+     * Returns the score gained in an activity, such as boss kills or clue scrolls completed.
+     *
+     * @param activityId The activity id
+     * @return The score gained
+     */
+    public int getScoreGained(int activityId) {
+        return scoreGained[activityId];
+    }
+
+    /**
+     * Returns how many places the player climbed in an activity.
+     *
+     * @param activityId The activity id
+     * @return The ranks climbed, negative if the player dropped, or 0 if unranked in either snapshot
+     */
+    public int getActivityRankChange(int activityId) {
+        return activityRankChanges[activityId];
+    }
+
+    /**
+     * Returns whether the player gained any experience or activity score.
+     *
+     * @return true if any skill or activity changed
+     */
+    public boolean hasGains() {
+        for (long xp : xpGained) {
+            if (xp != 0) {
+                return true;
+            }
+        }
+        for (int score : scoreGained) {
+            if (score != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerDelta(rsn=" + rsn + ", skills=" + getSkillCount() + ", activities=" + getActivityCount() + ")";
+    }
+}
@@ -0,0 +1,71 @@
+package com.osrshiscores.apiclient.model.output;
+
+import java.io.IOException;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Represents the outcome of a single player lookup within a bulk fetch.
+ * A result holds either the fetched player or the error that prevented the lookup from completing.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PlayerLookupResult {
+    /**
+     * The RuneScape name that was looked up.
+     */
+    private final String rsn;
+
+    /**
+     * The fetched player, or null if the lookup failed.
+     */
+    private final OsrsPlayer player;
+
+    /**
+     * The error that caused the lookup to fail, or null if it succeeded.
+     */
+    private final IOException error;
+
+    /**
+     * Creates a successful lookup result.
+     *
+     * @param rsn The RuneScape name that was looked up
+     * @param player The fetched player
+     * @return A successful PlayerLookupResult
+     */
+    public static PlayerLookupResult success(String rsn, OsrsPlayer player) {
+        return new PlayerLookupResult(rsn, player, null);
+    }
+
+    /**
+     * Creates a failed lookup result.
+     *
+     * @param rsn The RuneScape name that was looked up
+     * @param error The error that caused the lookup to fail
+     * @return A failed PlayerLookupResult
+     */
+    public static PlayerLookupResult failure(String rsn, IOException error) {
+        return new PlayerLookupResult(rsn, null, error);
+    }
+
+    /**
+     * Returns whether the lookup completed successfully.
+     *
+     * @return true if a player was fetched, false otherwise
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Returns the same outcome reported under another name, for example another spelling of the same player.
+     *
+     * @param rsn The RuneScape name to report
+     * @return A PlayerLookupResult with the given name and this result's player, under that name, or error
+     */
+    public PlayerLookupResult withRsn(String rsn) {
+        return new PlayerLookupResult(rsn, player == null ? null : player.withRsn(rsn), error);
+    }
+}
@@ -0,0 +1,275 @@
+package com.osrshiscores.apiclient.model.output;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import com.osrshiscores.apiclient.model.input.HiscoresSchema;
+
+/**
+ * Compact, immutable snapshot of a player's hiscores entry, backed by primitive arrays.
+ * Skill and activity names are not stored per player; they are resolved from the shared HiscoresSchema
+ * when Skill or Activity views are requested. This makes snapshots suitable for holding large rosters in memory.
+ */
+public final class PlayerSnapshot {
+    private static final int UNRANKED = -1;
+    private static final int UNRANKED_LEVEL = 1;
+    private static final int UNRANKED_SCORE = 0;
+
+    private final String rsn;
+    private final HiscoresSchema schema;
+    private final int[] skillRanks;
+    private final int[] skillLevels;
+    private final long[] skillXp;
+    private final int[] activityRanks;
+    private final int[] activityScores;
+
+    /**
+     * Creates a new PlayerSnapshot. The arrays are copied, and are indexed by skill or activity id.
+     * They may be shorter than the schema's lists, for snapshots taken under an older schema, but not longer.
+     *
+     * @param rsn The player's RuneScape name
+     * @param schema The schema the snapshot's ids refer to
+     * @param skillRanks The player's rank in each skill
+     * @param skillLevels The player's level in each skill
+     * @param skillXp The player's experience points in each skill
+     * @param activityRanks The player's rank in each activity
+     * @param activityScores The player's score in each activity
+     */
+    public PlayerSnapshot(String rsn, HiscoresSchema schema, int[] skillRanks, int[] skillLevels, long[] skillXp,
+            int[] activityRanks, int[] activityScores) {
+        if (skillRanks.length != skillLevels.length || skillRanks.length != skillXp.length) {
+            throw new IllegalArgumentException("Skill arrays must have the same length");
+        }
+        if (activityRanks.length != activityScores.length) {
+            throw new IllegalArgumentException("Activity arrays must have the same length");
+        }
+        if (skillRanks.length > schema.getSkillCount() || activityRanks.length > schema.getActivityCount()) {
+            throw new IllegalArgumentException("Snapshot has more skills or activities than schema "
+                    + schema.getVersion());
+        }
+
+        this.rsn = rsn;
+        this.schema = schema;
+        this.skillRanks = skillRanks.clone();
+        this.skillLevels = skillLevels.clone();
+        this.skillXp = skillXp.clone();
+        this.activityRanks = activityRanks.clone();
+        this.activityScores = activityScores.clone();
+    }
+
+    /**
+     * Creates a compact snapshot from a fully materialized player, using the default schema.
+     * Skills and activities are matched to the schema by name.
+     *
+     * @param player The player to convert
+     * @return A PlayerSnapshot holding the same data
+     */
+    public static PlayerSnapshot from(OsrsPlayer player) {
+        return from(player, HiscoresSchema.defaultSchema());
+    }
+
+    /**
+     * Creates a compact snapshot from a fully materialized player.
+     * Skills and activities are matched to the schema by name rather than id, since players parsed from JSON
+     * carry the ids of the payload. Entries the schema does not list are dropped, and schema entries the player
+     * lacks are stored as unranked.
+     *
+     * @param player The player to convert
+     * @param schema The schema to store the player's skills and activities under
+     * @return A PlayerSnapshot holding the same data
+     */
+    public static PlayerSnapshot from(OsrsPlayer player, HiscoresSchema schema) {
+        int[] skillRanks = new int[schema.getSkillCount()];
+        int[] skillLevels = new int[schema.getSkillCount()];
+        long[] skillXp = new long[schema.getSkillCount()];
+        int[] activityRanks = new int[schema.getActivityCount()];
+        int[] activityScores = new int[schema.getActivityCount()];
+        Arrays.fill(skillRanks, UNRANKED);
+        Arrays.fill(skillLevels, UNRANKED_LEVEL);
+        Arrays.fill(skillXp, UNRANKED);
+        Arrays.fill(activityRanks, UNRANKED);
+        Arrays.fill(activityScores, UNRANKED_SCORE);
+
+        for (Skill skill : player.getSkills()) {
+            int id = skill.getName() == null ? -1 : schema.findSkillId(skill.getName());
+            if (id >= 0) {
+                skillRanks[id] = skill.getRank();
+                skillLevels[id] = skill.getLevel();
+                skillXp[id] = skill.getXp();
+            }
+        }
+        for (Activity activity : player.getActivities()) {
+            int id = activity.getName() == null ? -1 : schema.findActivityId(activity.getName());
+            if (id >= 0) {
+                activityRanks[id] = activity.getRank();
+                activityScores[id] = activity.getScore();
+            }
+        }
+
+        return new PlayerSnapshot(player.getRsn(), schema,
+                skillRanks, skillLevels, skillXp, activityRanks, activityScores);
+    }
+
+    /**
+     * Returns the player's RuneScape name.
+     *
+     * @return The RuneScape name
+     */
+    public String getRsn() {
+        return rsn;
+    }
+
+    /**
+     * Returns the schema the snapshot's skill and activity ids refer to.
+     *
+     * @return The hiscores schema
+     */
+    public HiscoresSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Returns the number of skills in this snapshot.
+     *
+     * @return The skill count
+     */
+    public int getSkillCount() {
+        return skillXp.length;
+    }
+
+    /**
+     * Returns the number of activities in this snapshot.
+     *
+     * @return The activity count
+     */
+    public int getActivityCount() {
+        return activityScores.length;
+    }
+
+    /**
+     * Returns the player's rank in a skill.
+     *
+     * @param skillId The skill id
+     * @return The rank, or -1 if unranked
+     */
+    public int getSkillRank(int skillId) {
+        return skillRanks[skillId];
+    }
+
+    /**
+     * Returns the player's level in a skill.
+     *
+     * @param skillId The skill id
+     * @return The level
+     */
+    public int getSkillLevel(int skillId) {
+        return skillLevels[skillId];
+    }
+
+    /**
+     * Returns the player's experience points in a skill.
+     *
+     * @param skillId The skill id
+     * @return The experience points, or -1 if unranked
+     */
+    public long getSkillXp(int skillId) {
+        return skillXp[skillId];
+    }
+
+    /**
+     * Returns the player's rank in an activity.
+     *
+     * @param activityId The activity id
+     * @return The rank, or -1 if unranked
+     */
+    public int getActivityRank(int activityId) {
+        return activityRanks[activityId];
+    }
+
+    /**
+     * Returns the player's score in an activity.
+     *
+     * @param activityId The activity id
+     * @return The score
+     */
+    public int getActivityScore(int activityId) {
+        return activityScores[activityId];
+    }
+
+    /**
+     * Creates a Skill view of one skill in this snapshot.
+     *
+     * @param skillId The skill id
+     * @return A new Skill instance
+     */
+    public Skill getSkill(int skillId) {
+        return new Skill(skillId, schema.getSkillName(skillId),
+                skillRanks[skillId], skillLevels[skillId], skillXp[skillId]);
+    }
+
+    /**
+     * Creates an Activity view of one activity in this snapshot.
+     *
+     * @param activityId The activity id
+     * @return A new Activity instance
+     */
+    public Activity getActivity(int activityId) {
+        return new Activity(activityId, schema.getActivityName(activityId),
+                activityRanks[activityId], activityScores[activityId]);
+    }
+
+    /**
+     * Expands this snapshot into a fully materialized player.
+     *
+     * @return A new OsrsPlayer holding the same data
+     */
+    public OsrsPlayer toPlayer() {
+        List<Skill> skills = new ArrayList<>(getSkillCount());
+        for (int i = 0; i < getSkillCount(); i++) {
+            skills.add(getSkill(i));
+        }
+        List<Activity> activities = new ArrayList<>(getActivityCount());
+        for (int i = 0; i < getActivityCount(); i++) {
+            activities.add(getActivity(i));
+        }
+        return new OsrsPlayer(rsn, skills, activities);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PlayerSnapshot)) {
+            return false;
+        }
+        PlayerSnapshot other = (PlayerSnapshot) o;
+        return Objects.equals(rsn, other.rsn) && hasSameSkills(other) && hasSameActivities(other);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(rsn);
+        result = 31 * result + Arrays.hashCode(skillXp);
+        result = 31 * result + Arrays.hashCode(activityScores);
+        return result;
+    }
+
+    private boolean hasSameSkills(PlayerSnapshot other) {
+        return Arrays.equals(skillRanks, other.skillRanks)
+                && Arrays.equals(skillLevels, other.skillLevels)
+                && Arrays.equals(skillXp, other.skillXp);
+    }
+
+    private boolean hasSameActivities(PlayerSnapshot other) {
+        return Arrays.equals(activityRanks, other.activityRanks)
+                && Arrays.equals(activityScores, other.activityScores);
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerSnapshot(rsn=" + rsn + ", skills=" + getSkillCount() + ", activities=" + getActivityCount() + ")";
+    }
+}
@@ -0,0 +1,56 @@
+package com.osrshiscores.apiclient.model.output;
+
+import lombok.Value;
+
+/**
+ * Represents the outcome of refreshing a player.
+ * A result holds the freshly parsed player if their hiscores changed since the previous refresh,
+ * and no player if they did not, so unchanged players cost neither parsing nor allocation.
+ */
+@Value
+public final class RefreshResult {
+    /**
+     * The RuneScape name that was refreshed.
+     */
+    private final String rsn;
+
+    /**
+     * The refreshed player, or null if nothing changed.
+     */
+    private final OsrsPlayer player;
+
+    private RefreshResult(String rsn, OsrsPlayer player) {
+        this.rsn = rsn;
+        this.player = player;
+    }
+
+    /**
+     * Creates a result for a player whose hiscores changed, or who was refreshed for the first time.
+     *
+     * @param rsn The RuneScape name that was refreshed
+     * @param player The refreshed player
+     * @return A changed RefreshResult
+     */
+    public static RefreshResult changed(String rsn, OsrsPlayer player) {
+        return new RefreshResult(rsn, player);
+    }
+
+    /**
+     * Creates a result for a player whose hiscores are unchanged since the previous refresh.
+     *
+     * @param rsn The RuneScape name that was refreshed
+     * @return An unchanged RefreshResult
+     */
+    public static RefreshResult unchanged(String rsn) {
+        return new RefreshResult(rsn, null);
+    }
+
+    /**
+     * Returns whether the player's hiscores changed since the previous refresh.
+     *
+     * @return true if a new player was parsed, false otherwise
+     */
+    public boolean isChanged() {
+        return player != null;
+    }
+}
@@ -0,0 +1,93 @@
+package com.osrshiscores.apiclient.service;
+
+import java.io.IOException;
+
+/**
+ * Receives measurements from the client's hot path: HTTP attempts, retries, hedges, parsing and caching.
+ * Every method defaults to doing nothing, so an adapter to a metrics system only overrides what it records,
+ * and {@link #NOOP} costs no more than an empty call. Methods are called from request threads and HTTP client
+ * threads and must be thread-safe and non-blocking.
+ */
+public interface ClientMetrics {
+    /**
+     * A ClientMetrics that records nothing. This is the default.
+     */
+    ClientMetrics NOOP = new ClientMetrics() {
+    };
+
+    /**
+     * Called when a single HTTP attempt, including a hedged attempt, is sent.
+     * Together with requestCompleted and requestFailed this gives the number of requests in flight.
+     */
+    default void requestStarted() {
+    }
+
+    /**
+     * Called when an HTTP attempt receives a response, whatever its status.
+     *
+     * @param statusCode The HTTP status code
+     * @param latencyNanos The time from sending the request to receiving the response
+     * @param bodyBytes The size of the decoded response body in bytes, or -1 if the body is streamed
+     */
+    default void requestCompleted(int statusCode, long latencyNanos, long bodyBytes) {
+    }
+
+    /**
+     * Called when an HTTP attempt fails without a response, or is cancelled after a hedge won.
+     *
+     * @param error The I/O error, timeout or cancellation
+     * @param latencyNanos The time from sending the request to the failure
+     */
+    default void requestFailed(Throwable error, long latencyNanos) {
+    }
+
+    /**
+     * Called when a transient failure is about to be retried.
+     *
+     * @param attemptNumber The number of the attempt that failed, starting at 0
+     * @param backoffNanos How long the retry waits before it is sent
+     */
+    default void retryScheduled(int attemptNumber, long backoffNanos) {
+    }
+
+    /**
+     * Called when a hedged request is sent because the first attempt was slow.
+     */
+    default void hedgeSent() {
+    }
+
+    /**
+     * Called when a response has been parsed, successfully or not.
+     *
+     * @param parseNanos The time spent parsing
+     */
+    default void parseCompleted(long parseNanos) {
+    }
+
+    /**
+     * Called when a lookup is answered by the player cache, including lookups that join a load in flight.
+     */
+    default void cacheHit() {
+    }
+
+    /**
+     * Called when a lookup misses the player cache and goes to the hiscores.
+     */
+    default void cacheMiss() {
+    }
+
+    /**
+     * Called when a lookup fails immediately because the negative cache remembers the player as missing.
+     */
+    default void negativeCacheHit() {
+    }
+
+    /**
+     * Called when a lookup that went to the hiscores fails, after every retry.
+     * The exception type distinguishes missing players, throttling, server errors and parse failures.
+     *
+     * @param error The error reported to the caller
+     */
+    default void lookupFailed(IOException error) {
+    }
+}
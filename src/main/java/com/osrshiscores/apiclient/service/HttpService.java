@@ -1,6 +1,13 @@
 package com.osrshiscores.apiclient.service;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import com.osrshiscores.apiclient.model.output.ConditionalResponse;
 
 /**
  * Service interface for making HTTP requests.
@@ -12,7 +19,55 @@ public interface HttpService {
      *
      * @param url The URL to send the GET request to
      * @return The response body as a string
-     * @throws IOException If there is an error making the request or reading the response
+     * @throws IOException If there is an error making the request or reading the response,
+     *                     or a HiscoresException if the server responds with an unsuccessful status
      */
     String get(String url) throws IOException;
+
+    /**
+     * Makes a GET request to the specified URL and returns a stream over the response body.
+     * The caller must close the stream. The default implementation wraps the result of {@link #get(String)};
+     * implementations should override it to stream the body as it arrives.
+     *
+     * @param url The URL to send the GET request to
+     * @return A stream over the response body
+     * @throws IOException If there is an error making the request,
+     *                     or a HiscoresException if the server responds with an unsuccessful status
+     */
+    default InputStream getStream(String url) throws IOException {
+        return new ByteArrayInputStream(get(url).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Makes a non-blocking GET request to the specified URL.
+     * The default implementation runs {@link #get(String)} on the common pool;
+     * implementations backed by an asynchronous client should override it.
+     *
+     * @param url The URL to send the GET request to
+     * @return A future completing with the response body, or exceptionally with an IOException
+     */
+    default CompletableFuture<String> getAsync(String url) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return get(url);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Makes a conditional GET request to the specified URL.
+     * If an entity tag is given, it is sent as If-None-Match so the server can answer 304 Not Modified.
+     * The default implementation ignores the tag and always returns the full body.
+     *
+     * @param url The URL to send the GET request to
+     * @param etag The entity tag of the body the caller already has, or null
+     * @return The new body and its entity tag, or a not-modified response
+     * @throws IOException If there is an error making the request or reading the response,
+     *                     or a HiscoresException if the server responds with an unsuccessful status
+     */
+    default ConditionalResponse getConditional(String url, String etag) throws IOException {
+        return ConditionalResponse.modified(get(url), null);
+    }
 }
@@ -0,0 +1,41 @@
+package com.osrshiscores.apiclient.service;
+
+import com.osrshiscores.apiclient.model.output.CacheStats;
+
+/**
+ * Cache of players the hiscores reported as not found, such as renamed or deleted accounts.
+ * Lookups for a remembered name fail immediately instead of going to the network.
+ * Implementations must be thread-safe.
+ */
+public interface NegativeCache {
+    /**
+     * Returns whether the given key was recently reported as not found.
+     * A positive answer counts as a saved request in the cache statistics.
+     *
+     * @param key The normalized RSN
+     * @return true if the player is known to be missing, false otherwise
+     */
+    boolean isKnownMissing(String key);
+
+    /**
+     * Remembers that the hiscores reported the given key as not found.
+     *
+     * @param key The normalized RSN
+     */
+    void markMissing(String key);
+
+    /**
+     * Forgets the given key, for example after learning the name is in use again.
+     *
+     * @param key The normalized RSN
+     */
+    void invalidate(String key);
+
+    /**
+     * Returns a snapshot of the cache's counters.
+     * Hits are lookups answered without a request to the hiscores.
+     *
+     * @return The current cache statistics
+     */
+    CacheStats getStats();
+}
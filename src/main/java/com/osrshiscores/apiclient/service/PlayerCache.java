@@ -0,0 +1,55 @@
+package com.osrshiscores.apiclient.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import com.osrshiscores.apiclient.model.output.CacheStats;
+import com.osrshiscores.apiclient.model.output.OsrsPlayer;
+
+/**
+ * Cache for player lookups, placed in front of the OSRS hiscores.
+ * Implementations must be thread-safe and should coalesce concurrent misses for the same key into a single load.
+ */
+public interface PlayerCache {
+    /**
+     * Returns the cached player for the given key, loading it if it is absent or expired.
+     *
+     * @param key The normalized cache key
+     * @param loader Supplies a future that fetches the player from the hiscores
+     * @return A future completing with the cached or freshly loaded player
+     */
+    CompletableFuture<OsrsPlayer> get(String key, Supplier<CompletableFuture<OsrsPlayer>> loader);
+
+    /**
+     * Stores a player under the given key, replacing any cached entry, for example after a refresh fetched newer data.
+     * Storing does not count as a hit or a miss. If the future fails, the key is left empty.
+     * The default implementation invalidates the key and then loads the future through {@link #get},
+     * which is not atomic and counts as a miss; implementations should override it.
+     *
+     * @param key The normalized cache key
+     * @param player A future completing with the player to store
+     */
+    default void put(String key, CompletableFuture<OsrsPlayer> player) {
+        invalidate(key);
+        get(key, () -> player);
+    }
+
+    /**
+     * Removes the entry for the given key, if present.
+     *
+     * @param key The normalized cache key
+     */
+    void invalidate(String key);
+
+    /**
+     * Removes all entries from the cache.
+     */
+    void invalidateAll();
+
+    /**
+     * Returns a snapshot of the cache's counters.
+     *
+     * @return The current cache statistics
+     */
+    CacheStats getStats();
+}
@@ -0,0 +1,33 @@
+package com.osrshiscores.apiclient.service;
+
+/**
+ * Limits the rate of requests sent to the OSRS hiscores.
+ * Implementations must be thread-safe, as a single limiter is typically shared by every client in the JVM.
+ */
+public interface RateLimiter {
+    /**
+     * Reserves a permit for one request.
+     * The caller must wait for the returned delay before sending the request.
+     *
+     * @return The number of nanoseconds to wait before sending the request, or 0 if it may be sent immediately
+     */
+    long reserve();
+
+    /**
+     * Takes a permit only if one is available right now.
+     * Used for optional requests, such as hedges, that should never add to the wait of other requests.
+     *
+     * @return true if a permit was taken, false otherwise
+     */
+    boolean tryAcquire();
+
+    /**
+     * Records that a request completed without being throttled.
+     */
+    void onSuccess();
+
+    /**
+     * Records that a request was throttled or timed out, signalling that the rate should be reduced.
+     */
+    void onThrottled();
+}
@@ -0,0 +1,29 @@
+package com.osrshiscores.apiclient.service;
+
+import java.io.IOException;
+
+import com.osrshiscores.apiclient.model.output.OsrsPlayer;
+import com.osrshiscores.apiclient.model.output.PlayerDelta;
+
+/**
+ * Receives the results of a RefreshScheduler.
+ * Methods are called from the scheduler's worker threads and should return quickly.
+ */
+public interface RefreshListener {
+    /**
+     * Called when a refreshed player's hiscores changed since their previous refresh.
+     *
+     * @param player The refreshed player
+     * @param delta The gains since the previous refresh, or null on the player's first refresh
+     */
+    void onPlayerUpdated(OsrsPlayer player, PlayerDelta delta);
+
+    /**
+     * Called when a refresh fails. The player stays on the roster and is retried at their next interval.
+     *
+     * @param rsn The RuneScape name that could not be refreshed
+     * @param error The error that caused the refresh to fail
+     */
+    default void onRefreshFailed(String rsn, IOException error) {
+    }
+}
@@ -0,0 +1,92 @@
+package com.osrshiscores.apiclient.service;
+
+import com.osrshiscores.apiclient.model.output.PlayerSnapshot;
+
+/**
+ * Read-only view of one stored snapshot.
+ * Views handed to a visitor may read straight from the underlying storage and be reused for the next record,
+ * so they are only valid during the callback. Call toSnapshot to keep the data.
+ */
+public interface SnapshotRecord {
+    /**
+     * Returns when the snapshot was taken.
+     *
+     * @return The timestamp in milliseconds since the epoch
+     */
+    long getTimestamp();
+
+    /**
+     * Returns the store's numeric id for the player.
+     *
+     * @return The player id
+     */
+    int getPlayerId();
+
+    /**
+     * Returns the player's RuneScape name.
+     *
+     * @return The RuneScape name
+     */
+    String getRsn();
+
+    /**
+     * Returns the number of skills in the record.
+     *
+     * @return The skill count
+     */
+    int getSkillCount();
+
+    /**
+     * Returns the number of activities in the record.
+     *
+     * @return The activity count
+     */
+    int getActivityCount();
+
+    /**
+     * Returns the player's rank in a skill.
+     *
+     * @param skillId The skill id
+     * @return The rank, or -1 if unranked
+     */
+    int getSkillRank(int skillId);
+
+    /**
+     * Returns the player's level in a skill.
+     *
+     * @param skillId The skill id
+     * @return The level
+     */
+    int getSkillLevel(int skillId);
+
+    /**
+     * Returns the player's experience points in a skill.
+     *
+     * @param skillId The skill id
+     * @return The experience points, or -1 if unranked
+     */
+    long getSkillXp(int skillId);
+
+    /**
+     * Returns the player's rank in an activity.
+     *
+     * @param activityId The activity id
+     * @return The rank, or -1 if unranked
+     */
+    int getActivityRank(int activityId);
+
+    /**
+     * Returns the player's score in an activity.
+     *
+     * @param activityId The activity id
+     * @return The score
+     */
+    int getActivityScore(int activityId);
+
+    /**
+     * Copies the record into an independent snapshot.
+     *
+     * @return A new PlayerSnapshot holding the same data
+     */
+    PlayerSnapshot toSnapshot();
+}
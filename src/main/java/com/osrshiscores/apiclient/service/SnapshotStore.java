@@ -0,0 +1,64 @@
+package com.osrshiscores.apiclient.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.osrshiscores.apiclient.model.output.PlayerSnapshot;
+
+/**
+ * Append-only history of player snapshots.
+ * Implementations must be thread-safe.
+ */
+public interface SnapshotStore extends Closeable {
+    /**
+     * Appends a snapshot to the history.
+     *
+     * @param snapshot The snapshot to store
+     * @param timestamp When the snapshot was taken, in milliseconds since the epoch
+     * @throws IOException If the snapshot cannot be written
+     */
+    void append(PlayerSnapshot snapshot, long timestamp) throws IOException;
+
+    /**
+     * Visits every stored snapshot in the order it was appended.
+     * The record passed to the visitor is only valid during the callback.
+     *
+     * @param visitor Receives each record
+     * @throws IOException If the history cannot be read
+     */
+    void forEach(Consumer<SnapshotRecord> visitor) throws IOException;
+
+    /**
+     * Visits every stored snapshot of one player in the order it was appended.
+     * The record passed to the visitor is only valid during the callback.
+     *
+     * @param rsn The player's RuneScape name
+     * @param visitor Receives each record
+     * @throws IOException If the history cannot be read
+     */
+    void forEach(String rsn, Consumer<SnapshotRecord> visitor) throws IOException;
+
+    /**
+     * Returns the most recently appended snapshot of every player, for example to warm up after a restart.
+     *
+     * @return The latest snapshot for each RuneScape name
+     * @throws IOException If the history cannot be read
+     */
+    Map<String, PlayerSnapshot> loadLatest() throws IOException;
+
+    /**
+     * Returns the number of stored snapshots.
+     *
+     * @return The snapshot count
+     */
+    long size();
+
+    /**
+     * Forces appended snapshots to the storage device.
+     *
+     * @throws IOException If the store cannot be flushed
+     */
+    void flush() throws IOException;
+}
@@ -0,0 +1,309 @@
+package com.osrshiscores.apiclient.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import com.osrshiscores.apiclient.exception.HiscoresException;
+import com.osrshiscores.apiclient.exception.HiscoresServerException;
+import com.osrshiscores.apiclient.exception.PlayerNotFoundException;
+import com.osrshiscores.apiclient.exception.RateLimitedException;
+import com.osrshiscores.apiclient.model.input.HttpOptions;
+import com.osrshiscores.apiclient.model.output.ConditionalResponse;
+import com.osrshiscores.apiclient.service.HttpService;
+import com.osrshiscores.apiclient.service.RateLimiter;
+
+/**
+ * Base class for HttpService implementations, independent of the HTTP client library.
+ * Requests are paced by a rate limiter, which is told about throttling responses and timeouts.
+ * Every attempt, retry and hedge is reported to the configured ClientMetrics.
+ * Transient failures are retried with exponential backoff and jitter, and slow requests can be hedged.
+ * Responses that are still unsuccessful after retrying are reported as typed HiscoresExceptions.
+ * Subclasses only send a single asynchronous request.
+ */
+public abstract class AbstractHttpService implements HttpService {
+    /**
+     * The value of the Accept-Encoding and Content-Encoding headers for gzip compression.
+     */
+    protected static final String GZIP_ENCODING = "gzip";
+
+    /**
+     * The name of the header carrying how long to wait before retrying a throttled request.
+     */
+    protected static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    /**
+     * The name of the request header carrying the entity tag of a body the caller already has.
+     */
+    protected static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+
+    /**
+     * The name of the response header identifying the version of the body.
+     */
+    protected static final String ETAG_HEADER = "ETag";
+
+    private static final int MAX_BACKOFF_SHIFT = 20;
+    private final HttpOptions options;
+    private final RateLimiter rateLimiter;
+    private final AttemptSender attemptSender;
+
+    /**
+     * Creates a new AbstractHttpService.
+     *
+     * @param options Options for retries, hedging and rate limiting
+     */
+    protected AbstractHttpService(HttpOptions options) {
+        this.options = options;
+        this.rateLimiter = options.getRateLimiter();
+        this.attemptSender = new AttemptSender(options);
+    }
+
+    /**
+     * Returns the options this service was created with.
+     *
+     * @return The HTTP options
+     */
+    protected HttpOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * Sends a single GET request and reads the whole body as a string.
+     * The returned future must be cancellable, aborting the request.
+     *
+     * @param url The URL to send the GET request to
+     * @param timeout The maximum time the request may take
+     * @param ifNoneMatch The entity tag to send as If-None-Match, or null for an unconditional request
+     * @return A future completing with the response, whatever its status, or exceptionally with an IOException
+     */
+    protected abstract CompletableFuture<TransportResponse<String>> sendForString(
+            String url, Duration timeout, String ifNoneMatch);
+
+    /**
+     * Sends a single GET request and completes as soon as the response headers arrive.
+     * The returned future must be cancellable, aborting the request.
+     *
+     * @param url The URL to send the GET request to
+     * @param timeout The maximum time the request may take
+     * @param ifNoneMatch The entity tag to send as If-None-Match, or null for an unconditional request
+     * @return A future completing with the response, whatever its status, or exceptionally with an IOException
+     */
+    protected abstract CompletableFuture<TransportResponse<InputStream>> sendForStream(
+            String url, Duration timeout, String ifNoneMatch);
+
+    /**
+     * {@inheritDoc}
+     * If the request is interrupted, it will restore the interrupt flag and throw an IOException.
+     *
+     * @throws PlayerNotFoundException If the server responds with 404
+     * @throws RateLimitedException If the server is still throttling after every retry
+     * @throws HiscoresServerException If the server still fails with a 5xx status after every retry
+     * @throws HiscoresException If the server responds with any other unsuccessful status
+     */
+    @Override
+    public String get(String url) throws IOException {
+        return await(execute(url, (target, timeout) -> sendForString(target, timeout, null))).getBody();
+    }
+
+    /**
+     * {@inheritDoc}
+     * A 304 response is only expected when an entity tag is sent; servers that ignore the tag return the full body.
+     */
+    @Override
+    public ConditionalResponse getConditional(String url, String etag) throws IOException {
+        TransportResponse<String> response =
+                await(execute(url, (target, timeout) -> sendForString(target, timeout, etag)));
+        if (ResponseStatus.isNotModified(response.getStatusCode())) {
+            return ConditionalResponse.notModified(etag);
+        }
+        return ConditionalResponse.modified(response.getBody(), response.getEtag());
+    }
+
+    /**
+     * {@inheritDoc}
+     * The stream is returned as soon as the response headers arrive, and the body is read as the caller consumes it.
+     */
+    @Override
+    public InputStream getStream(String url) throws IOException {
+        TransportResponse<InputStream> response =
+                await(execute(url, (target, timeout) -> sendForStream(target, timeout, null)));
+        if (GZIP_ENCODING.equalsIgnoreCase(response.getContentEncoding())) {
+            // Decoding on the caller's thread keeps blocking reads off the client's own threads
+            return new GZIPInputStream(response.getBody());
+        }
+        return response.getBody();
+    }
+
+    /**
+     * {@inheritDoc}
+     * No thread is held while the request is in flight, including while it waits for the rate limiter
+     * or between retries.
+     */
+    @Override
+    public CompletableFuture<String> getAsync(String url) {
+        return execute(url, (target, timeout) -> sendForString(target, timeout, null))
+                .thenApply(TransportResponse::getBody);
+    }
+
+    private <T> CompletableFuture<TransportResponse<T>> execute(String url, Sender<T> sender) {
+        // Cancelling the result aborts whichever requests are still in flight, not just the stage waiting on them
+        CompletableFuture<TransportResponse<T>> result = new CompletableFuture<>();
+        Sender<T> cancellable = (target, timeout) -> {
+            CompletableFuture<TransportResponse<T>> transport = sender.send(target, timeout);
+            result.whenComplete((response, error) -> transport.cancel(true));
+            return transport;
+        };
+        attempt(url, cancellable, 0, System.nanoTime())
+                .thenApply(response -> requireSuccess(url, response))
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        result.completeExceptionally(error);
+                    } else if (!result.complete(response)) {
+                        response.discard();
+                    }
+                });
+        return result;
+    }
+
+    private static <T> TransportResponse<T> requireSuccess(String url, TransportResponse<T> response) {
+        if (ResponseStatus.isSuccess(response.getStatusCode())) {
+            return response;
+        }
+        response.discard();
+        throw new CompletionException(ResponseStatus.toException(url, response));
+    }
+
+    private <T> CompletableFuture<TransportResponse<T>> attempt(
+            String url, Sender<T> sender, int attemptNumber, long startNanos) {
+        long remainingNanos = remainingNanos(startNanos);
+        if (remainingNanos <= 0) {
+            return CompletableFuture.failedFuture(new HttpTimeoutException("Deadline exceeded for " + url));
+        }
+
+        Duration timeout = Duration.ofNanos(Math.min(options.getRequestTimeout().toNanos(), remainingNanos));
+        return afterDelay(rateLimiter.reserve())
+                .thenCompose(ignored -> attemptSender.send(() -> sender.send(url, timeout)))
+                .handle((response, error) -> retryIfTransient(url, sender, attemptNumber, startNanos, response, error))
+                .thenCompose(future -> future);
+    }
+
+    private <T> CompletableFuture<TransportResponse<T>> retryIfTransient(String url, Sender<T> sender,
+            int attemptNumber, long startNanos, TransportResponse<T> response, Throwable error) {
+        Throwable cause = unwrap(error);
+        boolean transientFailure;
+        if (response != null) {
+            recordOutcome(response.getStatusCode());
+            transientFailure = ResponseStatus.isTransient(response.getStatusCode());
+        } else {
+            if (isTimeout(cause)) {
+                rateLimiter.onThrottled();
+            }
+            transientFailure = cause instanceof IOException;
+        }
+
+        long backoffNanos = backoffNanos(attemptNumber, response);
+        boolean retry = transientFailure
+                && attemptNumber < options.getMaxRetries()
+                && isWithinRetryBudget(backoffNanos, startNanos);
+        if (!retry) {
+            return response != null
+                    ? CompletableFuture.completedFuture(response)
+                    : CompletableFuture.failedFuture(cause);
+        }
+
+        if (response != null) {
+            response.discard();
+        }
+        attemptSender.retryScheduled(attemptNumber, backoffNanos);
+        return afterDelay(backoffNanos)
+                .thenCompose(ignored -> attempt(url, sender, attemptNumber + 1, startNanos));
+    }
+
+    private long backoffNanos(int attemptNumber, TransportResponse<?> response) {
+        long initialNanos = options.getInitialBackoff().toNanos();
+        long ceilingNanos = Math.min(options.getMaxBackoff().toNanos(),
+                initialNanos << Math.min(attemptNumber, MAX_BACKOFF_SHIFT));
+        long jitteredNanos = ThreadLocalRandom.current().nextLong(Math.max(ceilingNanos, 0) + 1);
+        return Math.max(jitteredNanos, ResponseStatus.retryAfterNanos(response));
+    }
+
+    private boolean isWithinRetryBudget(long backoffNanos, long startNanos) {
+        if (options.getDeadline() == null) {
+            // Only a Retry-After can exceed maxBackoff; rather than wait that long, the throttling is reported
+            return backoffNanos <= options.getMaxBackoff().toNanos();
+        }
+        return backoffNanos < remainingNanos(startNanos);
+    }
+
+    private long remainingNanos(long startNanos) {
+        Duration deadline = options.getDeadline();
+        if (deadline == null) {
+            return Long.MAX_VALUE;
+        }
+        return deadline.toNanos() - (System.nanoTime() - startNanos);
+    }
+
+    private void recordOutcome(int statusCode) {
+        if (ResponseStatus.isThrottling(statusCode)) {
+            rateLimiter.onThrottled();
+        } else {
+            rateLimiter.onSuccess();
+        }
+    }
+
+    private static boolean isTimeout(Throwable cause) {
+        // Java's HttpClient reports HttpTimeoutException, OkHttp an InterruptedIOException
+        return cause instanceof HttpTimeoutException || cause instanceof InterruptedIOException;
+    }
+
+    private static CompletableFuture<Void> afterDelay(long delayNanos) {
+        if (delayNanos <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> { },
+                CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS));
+    }
+
+    static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IOException("Request interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Request failed", cause);
+        }
+    }
+
+    /**
+     * Sends one request with one of the transport's body handling strategies.
+     *
+     * @param <T> The type of the response body
+     */
+    @FunctionalInterface
+    private interface Sender<T> {
+        CompletableFuture<TransportResponse<T>> send(String url, Duration timeout);
+    }
+}
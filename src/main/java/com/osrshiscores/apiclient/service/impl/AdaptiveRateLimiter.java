@@ -0,0 +1,118 @@
+package com.osrshiscores.apiclient.service.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import com.osrshiscores.apiclient.service.RateLimiter;
+
+/**
+ * Token-bucket implementation of the RateLimiter interface with adaptive throttling.
+ * The permitted rate grows additively while requests succeed and is halved when the server throttles,
+ * converging on the highest rate the hiscores will sustain.
+ */
+public class AdaptiveRateLimiter implements RateLimiter {
+    private static final double DEFAULT_MAX_RATE = 20.0;
+    private static final double DEFAULT_MIN_RATE = 1.0;
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long DECREASE_COOLDOWN_NANOS = NANOS_PER_SECOND;
+    private static final AdaptiveRateLimiter SHARED = new AdaptiveRateLimiter(DEFAULT_MAX_RATE, DEFAULT_MIN_RATE);
+
+    private final double maxRate;
+    private final double minRate;
+    private double rate;
+    private double tokens;
+    private long lastRefillNanos;
+    private long lastDecreaseNanos;
+
+    /**
+     * Creates a new AdaptiveRateLimiter.
+     * The limiter starts at the maximum rate, with a full bucket of one second's worth of permits.
+     *
+     * @param maxRate The highest permitted rate, in requests per second
+     * @param minRate The lowest rate the limiter backs off to, in requests per second
+     */
+    public AdaptiveRateLimiter(double maxRate, double minRate) {
+        if (minRate <= 0 || maxRate < minRate) {
+            throw new IllegalArgumentException("Rates must satisfy 0 < minRate <= maxRate");
+        }
+
+        this.maxRate = maxRate;
+        this.minRate = minRate;
+        this.rate = maxRate;
+        this.tokens = maxRate;
+        this.lastRefillNanos = System.nanoTime();
+        this.lastDecreaseNanos = lastRefillNanos - DECREASE_COOLDOWN_NANOS;
+    }
+
+    /**
+     * Returns the limiter shared by every client in the JVM that does not configure its own.
+     * It permits up to 20 requests per second and backs off to as little as 1 request per second.
+     *
+     * @return The JVM-wide shared rate limiter
+     */
+    public static AdaptiveRateLimiter shared() {
+        return SHARED;
+    }
+
+    @Override
+    public synchronized long reserve() {
+        refill(System.nanoTime());
+        tokens -= 1;
+        if (tokens >= 0) {
+            return 0;
+        }
+        return (long) (-tokens / rate * NANOS_PER_SECOND);
+    }
+
+    @Override
+    public synchronized boolean tryAcquire() {
+        refill(System.nanoTime());
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Each success raises the rate by 1 / rate, so a fully successful second raises it by roughly one request.
+     */
+    @Override
+    public synchronized void onSuccess() {
+        rate = Math.min(maxRate, rate + 1 / rate);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The rate is halved at most once per second, so a burst of throttled responses
+     * to requests that were already in flight only counts once.
+     */
+    @Override
+    public synchronized void onThrottled() {
+        long now = System.nanoTime();
+        if (now - lastDecreaseNanos < DECREASE_COOLDOWN_NANOS) {
+            return;
+        }
+
+        refill(now);
+        lastDecreaseNanos = now;
+        rate = Math.max(minRate, rate * DECREASE_FACTOR);
+        tokens = Math.min(tokens, 0);
+    }
+
+    /**
+     * Returns the currently permitted rate.
+     *
+     * @return The current rate, in requests per second
+     */
+    public synchronized double getCurrentRate() {
+        return rate;
+    }
+
+    private void refill(long now) {
+        double elapsedSeconds = (double) (now - lastRefillNanos) / NANOS_PER_SECOND;
+        tokens = Math.min(rate, tokens + elapsedSeconds * rate);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,101 @@
+package com.osrshiscores.apiclient.service.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.osrshiscores.apiclient.model.input.HttpOptions;
+import com.osrshiscores.apiclient.service.ClientMetrics;
+import com.osrshiscores.apiclient.service.RateLimiter;
+
+/**
+ * Sends the individual attempts of a request for AbstractHttpService, hedging slow ones,
+ * and reports every attempt, retry and hedge to the configured ClientMetrics.
+ * The latencies of recent attempts are tracked to derive the hedge delay from the configured quantile.
+ */
+final class AttemptSender {
+    private final ClientMetrics metrics;
+    private final RateLimiter rateLimiter;
+    private final double hedgeQuantile;
+    private final LatencyTracker latencyTracker = new LatencyTracker();
+
+    AttemptSender(HttpOptions options) {
+        this.metrics = options.getMetrics();
+        this.rateLimiter = options.getRateLimiter();
+        this.hedgeQuantile = options.getHedgeQuantile();
+    }
+
+    /**
+     * Sends one attempt, and a hedge if it is still outstanding after the hedge delay.
+     * The returned future completes with the first response; the losing request is cancelled.
+     *
+     * @param <T> The type of the response body
+     * @param request Sends a single request, returning the transport's cancellable future
+     * @return A future completing with the first response, or exceptionally once every request sent has failed
+     */
+    <T> CompletableFuture<TransportResponse<T>> send(Supplier<CompletableFuture<TransportResponse<T>>> request) {
+        CompletableFuture<TransportResponse<T>> primary = sendOnce(request);
+        long hedgeDelayNanos = hedgeQuantile > 0 ? latencyTracker.percentile(hedgeQuantile) : -1;
+        if (hedgeDelayNanos < 0) {
+            return primary;
+        }
+
+        // The first response wins; the request only fails once every request sent has failed
+        CompletableFuture<TransportResponse<T>> result = new CompletableFuture<>();
+        AtomicInteger outstanding = new AtomicInteger(1);
+        race(result, outstanding, primary);
+
+        CompletableFuture.delayedExecutor(hedgeDelayNanos, TimeUnit.NANOSECONDS).execute(() -> {
+            if (result.isDone() || !rateLimiter.tryAcquire()) {
+                return;
+            }
+            outstanding.incrementAndGet();
+            metrics.hedgeSent();
+            race(result, outstanding, sendOnce(request));
+        });
+        return result;
+    }
+
+    /**
+     * Reports that a retry has been scheduled.
+     *
+     * @param attemptNumber The number of the attempt that failed, starting at 0
+     * @param backoffNanos The wait before the retry
+     */
+    void retryScheduled(int attemptNumber, long backoffNanos) {
+        metrics.retryScheduled(attemptNumber, backoffNanos);
+    }
+
+    private <T> CompletableFuture<TransportResponse<T>> sendOnce(
+            Supplier<CompletableFuture<TransportResponse<T>>> request) {
+        metrics.requestStarted();
+        long sentAtNanos = System.nanoTime();
+        CompletableFuture<TransportResponse<T>> transport = request.get();
+        transport.whenComplete((response, error) -> {
+            long latencyNanos = System.nanoTime() - sentAtNanos;
+            if (response != null) {
+                latencyTracker.record(latencyNanos);
+                metrics.requestCompleted(response.getStatusCode(), latencyNanos, response.getBodyBytes());
+            } else {
+                metrics.requestFailed(AbstractHttpService.unwrap(error), latencyNanos);
+            }
+        });
+        // The transport's own future is returned so that cancelling it aborts the request
+        return transport;
+    }
+
+    private static <T> void race(CompletableFuture<TransportResponse<T>> result, AtomicInteger outstanding,
+            CompletableFuture<TransportResponse<T>> request) {
+        request.whenComplete((response, error) -> {
+            if (error == null) {
+                if (!result.complete(response)) {
+                    response.discard();
+                }
+            } else if (outstanding.decrementAndGet() == 0) {
+                result.completeExceptionally(error);
+            }
+        });
+        result.whenComplete((response, error) -> request.cancel(true));
+    }
+}
@@ -0,0 +1,497 @@
+package com.osrshiscores.apiclient.service.impl;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import com.osrshiscores.apiclient.model.input.HiscoresSchema;
+import com.osrshiscores.apiclient.model.input.Rsn;
+import com.osrshiscores.apiclient.model.output.PlayerSnapshot;
+import com.osrshiscores.apiclient.service.SnapshotRecord;
+import com.osrshiscores.apiclient.service.SnapshotStore;
+
+/**
+ * File-backed implementation of the SnapshotStore interface.
+ * Snapshots are appended as fixed-width binary records to {@code snapshots.bin}, after a header holding a magic
+ * number, the format version and the schema's skill and activity counts. Each record holds the timestamp, the
+ * player id, then rank, level and xp per skill and rank and score per activity. Player ids index the lines of
+ * {@code players.txt}. Reads memory-map the records and visit them in place without copying.
+ * The position of each player's records is kept in memory, rebuilt from the file when the store is opened,
+ * so reading one player's history or the latest snapshots only touches the records needed.
+ * A record cut short by a crash is discarded when the store is reopened, as are records from the first one
+ * whose player name did not reach {@code players.txt} before the crash.
+ * Players are identified by their canonical name, so every spelling of a name shares one history, reported under
+ * the spelling the player was first stored with.
+ */
+public class FileSnapshotStore implements SnapshotStore {
+    private static final String SNAPSHOTS_FILE = "snapshots.bin";
+    private static final String PLAYERS_FILE = "players.txt";
+    private static final int MAGIC = 0x4F535253;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 4 * Integer.BYTES;
+    private static final int RECORD_PREFIX_BYTES = Long.BYTES + Integer.BYTES;
+    private static final int SKILL_BYTES = 2 * Integer.BYTES + Long.BYTES;
+    private static final int ACTIVITY_BYTES = 2 * Integer.BYTES;
+    private static final byte NEWLINE = '\n';
+
+    private final HiscoresSchema schema;
+    private final int recordBytes;
+    private final ByteBuffer writeBuffer;
+    private final FileChannel snapshots;
+    private final FileChannel players;
+    private final Map<String, Integer> playerIds = new HashMap<>();
+    private final List<String> playerNames = new ArrayList<>();
+    private final List<RecordPositions> playerRecords = new ArrayList<>();
+    private final List<RecordPositions> histories = new ArrayList<>();
+    private long recordCount;
+
+    /**
+     * Opens the store in the given directory, creating it if it does not exist.
+     *
+     * @param directory The directory holding the store's files
+     * @param schema The schema of the snapshots stored
+     * @throws IOException If the files cannot be opened, or were written with a different schema
+     */
+    public FileSnapshotStore(Path directory, HiscoresSchema schema) throws IOException {
+        this.schema = schema;
+        this.recordBytes = RECORD_PREFIX_BYTES
+                + schema.getSkillCount() * SKILL_BYTES
+                + schema.getActivityCount() * ACTIVITY_BYTES;
+        this.writeBuffer = ByteBuffer.allocate(recordBytes);
+
+        Files.createDirectories(directory);
+        this.snapshots = open(directory.resolve(SNAPSHOTS_FILE));
+        try {
+            this.players = open(directory.resolve(PLAYERS_FILE));
+        } catch (IOException e) {
+            snapshots.close();
+            throw e;
+        }
+
+        try {
+            this.recordCount = openSnapshots();
+            loadPlayers();
+            indexRecords();
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    private static FileChannel open(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private long openSnapshots() throws IOException {
+        long size = snapshots.size();
+        if (size == 0) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                    .putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putInt(schema.getSkillCount())
+                    .putInt(schema.getActivityCount());
+            header.flip();
+            writeFully(snapshots, header, 0);
+            return 0;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        readFully(snapshots, header, 0);
+        header.flip();
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a snapshot file");
+        }
+        int version = header.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported snapshot format version " + version);
+        }
+        int skillCount = header.getInt();
+        int activityCount = header.getInt();
+        if (skillCount != schema.getSkillCount() || activityCount != schema.getActivityCount()) {
+            throw new IOException("Snapshot file holds " + skillCount + " skills and " + activityCount
+                    + " activities, but schema " + schema.getVersion() + " has " + schema.getSkillCount()
+                    + " and " + schema.getActivityCount());
+        }
+
+        long count = (size - HEADER_BYTES) / recordBytes;
+        snapshots.truncate(HEADER_BYTES + count * recordBytes);
+        return count;
+    }
+
+    private void loadPlayers() throws IOException {
+        ByteBuffer content = ByteBuffer.allocate(Math.toIntExact(players.size()));
+        readFully(players, content, 0);
+        byte[] bytes = content.array();
+
+        // Drop a name cut short by a crash; no record can refer to it yet
+        int end = bytes.length;
+        while (end > 0 && bytes[end - 1] != NEWLINE) {
+            end--;
+        }
+        players.truncate(end);
+
+        int start = 0;
+        for (int i = 0; i < end; i++) {
+            if (bytes[i] == NEWLINE) {
+                register(new String(bytes, start, i - start, StandardCharsets.UTF_8));
+                start = i + 1;
+            }
+        }
+    }
+
+    private void indexRecords() throws IOException {
+        long validCount = recordCount;
+        long recordsPerChunk = Integer.MAX_VALUE / recordBytes;
+        for (long first = 0; first < recordCount && validCount == recordCount; first += recordsPerChunk) {
+            ByteBuffer chunk = mapChunk(first, recordCount, recordsPerChunk);
+            int chunkRecords = (int) Math.min(recordsPerChunk, recordCount - first);
+            for (int i = 0; i < chunkRecords; i++) {
+                int playerId = chunk.getInt(i * recordBytes + Long.BYTES);
+                if (playerId < 0 || playerId >= playerNames.size()) {
+                    // The name was lost in a crash, and its id would be handed to the next new player
+                    validCount = first + i;
+                    break;
+                }
+                playerRecords.get(playerId).add(first + i);
+            }
+        }
+
+        if (validCount < recordCount) {
+            recordCount = validCount;
+            snapshots.truncate(HEADER_BYTES + validCount * recordBytes);
+        }
+    }
+
+    private int register(String rsn) {
+        int id = playerNames.size();
+        Integer existing = playerIds.putIfAbsent(canonical(rsn), id);
+        if (existing == null) {
+            RecordPositions history = new RecordPositions();
+            playerNames.add(rsn);
+            playerRecords.add(history);
+            histories.add(history);
+        } else {
+            // Files written before names were canonical can list two spellings; they share one history
+            playerNames.add(playerNames.get(existing));
+            playerRecords.add(playerRecords.get(existing));
+        }
+        return id;
+    }
+
+    private static String canonical(String rsn) {
+        try {
+            return Rsn.of(rsn).getCanonical();
+        } catch (IllegalArgumentException e) {
+            // Names the hiscores would reject are still stored, keyed as given
+            return rsn;
+        }
+    }
+
+    @Override
+    public synchronized void append(PlayerSnapshot snapshot, long timestamp) throws IOException {
+        if (snapshot.getSkillCount() != schema.getSkillCount()
+                || snapshot.getActivityCount() != schema.getActivityCount()) {
+            throw new IllegalArgumentException("Snapshot of " + snapshot.getRsn() + " does not match the schema");
+        }
+
+        int playerId = playerId(snapshot.getRsn());
+        writeBuffer.clear();
+        writeBuffer.putLong(timestamp).putInt(playerId);
+        for (int i = 0; i < snapshot.getSkillCount(); i++) {
+            writeBuffer.putInt(snapshot.getSkillRank(i))
+                    .putInt(snapshot.getSkillLevel(i))
+                    .putLong(snapshot.getSkillXp(i));
+        }
+        for (int i = 0; i < snapshot.getActivityCount(); i++) {
+            writeBuffer.putInt(snapshot.getActivityRank(i)).putInt(snapshot.getActivityScore(i));
+        }
+        writeBuffer.flip();
+        writeFully(snapshots, writeBuffer, HEADER_BYTES + recordCount * recordBytes);
+        playerRecords.get(playerId).add(recordCount);
+        recordCount++;
+    }
+
+    private int playerId(String rsn) throws IOException {
+        Integer id = playerIds.get(canonical(rsn));
+        if (id != null) {
+            return id;
+        }
+        if (rsn.indexOf(NEWLINE) >= 0) {
+            throw new IllegalArgumentException("RSN must not contain a line break");
+        }
+
+        // The name is written before any record that refers to it
+        byte[] line = (rsn + '\n').getBytes(StandardCharsets.UTF_8);
+        writeFully(players, ByteBuffer.wrap(line), players.size());
+        return register(rsn);
+    }
+
+    @Override
+    public void forEach(Consumer<SnapshotRecord> visitor) throws IOException {
+        long count;
+        String[] names;
+        synchronized (this) {
+            count = recordCount;
+            names = playerNames.toArray(new String[0]);
+        }
+        scan(count, names, visitor);
+    }
+
+    @Override
+    public void forEach(String rsn, Consumer<SnapshotRecord> visitor) throws IOException {
+        long count;
+        String[] names;
+        long[] positions;
+        String key = canonical(rsn);
+        synchronized (this) {
+            Integer playerId = playerIds.get(key);
+            if (playerId == null) {
+                return;
+            }
+            count = recordCount;
+            names = playerNames.toArray(new String[0]);
+            positions = playerRecords.get(playerId).toArray();
+        }
+        visit(positions, count, names, visitor);
+    }
+
+    @Override
+    public Map<String, PlayerSnapshot> loadLatest() throws IOException {
+        long count;
+        String[] names;
+        long[] latest;
+        synchronized (this) {
+            count = recordCount;
+            names = playerNames.toArray(new String[0]);
+            latest = new long[histories.size()];
+            for (int i = 0; i < latest.length; i++) {
+                latest[i] = histories.get(i).last();
+            }
+        }
+
+        // Visiting in file order keeps each mapped chunk in use for as long as possible
+        Arrays.sort(latest);
+        int first = 0;
+        while (first < latest.length && latest[first] < 0) {
+            first++;
+        }
+        Map<String, PlayerSnapshot> snapshotsByRsn = new HashMap<>();
+        visit(Arrays.copyOfRange(latest, first, latest.length), count, names,
+                record -> snapshotsByRsn.put(record.getRsn(), record.toSnapshot()));
+        return snapshotsByRsn;
+    }
+
+    private void scan(long count, String[] names, Consumer<SnapshotRecord> visitor) throws IOException {
+        MappedRecord record = new MappedRecord(schema, names);
+        long recordsPerChunk = Integer.MAX_VALUE / recordBytes;
+        for (long first = 0; first < count; first += recordsPerChunk) {
+            record.buffer = mapChunk(first, count, recordsPerChunk);
+            int chunkRecords = (int) Math.min(recordsPerChunk, count - first);
+            for (int i = 0; i < chunkRecords; i++) {
+                record.offset = i * recordBytes;
+                visitor.accept(record);
+            }
+        }
+    }
+
+    private void visit(long[] positions, long count, String[] names, Consumer<SnapshotRecord> visitor)
+            throws IOException {
+        MappedRecord record = new MappedRecord(schema, names);
+        long recordsPerChunk = Integer.MAX_VALUE / recordBytes;
+        long chunkFirst = -1;
+        for (long position : positions) {
+            long first = position - position % recordsPerChunk;
+            if (first != chunkFirst) {
+                record.buffer = mapChunk(first, count, recordsPerChunk);
+                chunkFirst = first;
+            }
+            record.offset = (int) (position - first) * recordBytes;
+            visitor.accept(record);
+        }
+    }
+
+    private ByteBuffer mapChunk(long first, long count, long recordsPerChunk) throws IOException {
+        long chunkRecords = Math.min(recordsPerChunk, count - first);
+        return snapshots.map(FileChannel.MapMode.READ_ONLY,
+                HEADER_BYTES + first * recordBytes, chunkRecords * recordBytes);
+    }
+
+    @Override
+    public synchronized long size() {
+        return recordCount;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        players.force(false);
+        snapshots.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            players.close();
+        } finally {
+            snapshots.close();
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, offset);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of snapshot store");
+            }
+            offset += read;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            offset += channel.write(buffer, offset);
+        }
+    }
+
+    /**
+     * The positions of one player's records, in the order they were appended.
+     */
+    private static final class RecordPositions {
+        private static final int INITIAL_CAPACITY = 4;
+
+        private long[] positions = new long[INITIAL_CAPACITY];
+        private int size;
+
+        void add(long position) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        long last() {
+            return size == 0 ? -1 : positions[size - 1];
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(positions, size);
+        }
+    }
+
+    /**
+     * Flyweight view of one record in a mapped chunk, moved along by the scan.
+     */
+    private static final class MappedRecord implements SnapshotRecord {
+        private final HiscoresSchema schema;
+        private final String[] names;
+        private final int skillCount;
+        private final int activityCount;
+        private final int activitiesStart;
+        private ByteBuffer buffer;
+        private int offset;
+
+        MappedRecord(HiscoresSchema schema, String[] names) {
+            this.schema = schema;
+            this.names = names;
+            this.skillCount = schema.getSkillCount();
+            this.activityCount = schema.getActivityCount();
+            this.activitiesStart = RECORD_PREFIX_BYTES + skillCount * SKILL_BYTES;
+        }
+
+        @Override
+        public long getTimestamp() {
+            return buffer.getLong(offset);
+        }
+
+        @Override
+        public int getPlayerId() {
+            return buffer.getInt(offset + Long.BYTES);
+        }
+
+        @Override
+        public String getRsn() {
+            return names[getPlayerId()];
+        }
+
+        @Override
+        public int getSkillCount() {
+            return skillCount;
+        }
+
+        @Override
+        public int getActivityCount() {
+            return activityCount;
+        }
+
+        @Override
+        public int getSkillRank(int skillId) {
+            return buffer.getInt(skillOffset(skillId));
+        }
+
+        @Override
+        public int getSkillLevel(int skillId) {
+            return buffer.getInt(skillOffset(skillId) + Integer.BYTES);
+        }
+
+        @Override
+        public long getSkillXp(int skillId) {
+            return buffer.getLong(skillOffset(skillId) + 2 * Integer.BYTES);
+        }
+
+        @Override
+        public int getActivityRank(int activityId) {
+            return buffer.getInt(activityOffset(activityId));
+        }
+
+        @Override
+        public int getActivityScore(int activityId) {
+            return buffer.getInt(activityOffset(activityId) + Integer.BYTES);
+        }
+
+        private int skillOffset(int skillId) {
+            return offset + RECORD_PREFIX_BYTES + Objects.checkIndex(skillId, skillCount) * SKILL_BYTES;
+        }
+
+        private int activityOffset(int activityId) {
+            return offset + activitiesStart + Objects.checkIndex(activityId, activityCount) * ACTIVITY_BYTES;
+        }
+
+        @Override
+        public PlayerSnapshot toSnapshot() {
+            int[] skillRanks = new int[skillCount];
+            int[] skillLevels = new int[skillCount];
+            long[] skillXp = new long[skillCount];
+            for (int i = 0; i < skillCount; i++) {
+                skillRanks[i] = getSkillRank(i);
+                skillLevels[i] = getSkillLevel(i);
+                skillXp[i] = getSkillXp(i);
+            }
+            int[] activityRanks = new int[activityCount];
+            int[] activityScores = new int[activityCount];
+            for (int i = 0; i < activityCount; i++) {
+                activityRanks[i] = getActivityRank(i);
+                activityScores[i] = getActivityScore(i);
+            }
+            return new PlayerSnapshot(getRsn(), schema,
+                    skillRanks, skillLevels, skillXp, activityRanks, activityScores);
+        }
+
+        @Override
+        public String toString() {
+            return "SnapshotRecord(rsn=" + getRsn() + ", timestamp=" + getTimestamp() + ")";
+        }
+    }
+}
@@ -1,20 +1,33 @@
 package com.osrshiscores.apiclient.service.impl;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
 
-import com.osrshiscores.apiclient.service.HttpService;
+import com.osrshiscores.apiclient.model.input.HttpOptions;
+import com.osrshiscores.apiclient.utils.VirtualThreads;
 
 /**
  * Implementation of the HttpService interface using Java's built-in HttpClient.
- * This implementation includes a configurable timeout and handles request interruption.
+ * The client prefers HTTP/2, so concurrent requests to the hiscores share one multiplexed connection,
+ * and asks for gzip-compressed responses unless compression is disabled.
+ * Java's HttpClient sizes its connection pool and keep-alive from the {@code jdk.httpclient.connectionPoolSize}
+ * and {@code jdk.httpclient.keepalive.timeout} system properties, so the pool options are not applied here;
+ * use the OkHttp transport to tune them per client.
  */
-public class HttpServiceImpl implements HttpService {
-    private static final int CONNECTION_TIMEOUT_SECONDS = 10;
+public class HttpServiceImpl extends AbstractHttpService {
+    private static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+    private static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
     private final HttpClient httpClient;
 
     /**
@@ -22,29 +35,90 @@ public class HttpServiceImpl implements HttpService {
      * The HttpClient is configured with a connection timeout.
      */
     public HttpServiceImpl() {
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(CONNECTION_TIMEOUT_SECONDS))
-                .build();
+        this(HttpOptions.defaults());
     }
 
     /**
-     * {@inheritDoc}
-     * This implementation uses Java's HttpClient to make the request.
-     * If the request is interrupted, it will restore the interrupt flag and throw an IOException.
+     * Creates a new HttpServiceImpl with custom transport options.
+     *
+     * @param options Options for configuring the underlying HttpClient
      */
+    public HttpServiceImpl(HttpOptions options) {
+        super(options);
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .connectTimeout(options.getConnectTimeout())
+                .version(options.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1);
+        if (options.isUseVirtualThreads()) {
+            builder.executor(VirtualThreads.newVirtualThreadPerTaskExecutor());
+        }
+        this.httpClient = builder.build();
+    }
+
+    @Override
+    protected CompletableFuture<TransportResponse<String>> sendForString(
+            String url, Duration timeout, String ifNoneMatch) {
+        HttpRequest request = buildRequest(url, timeout, ifNoneMatch);
+        return abortOnCancel(httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()),
+                HttpServiceImpl::decodeString);
+    }
+
     @Override
-    public String get(String url) throws IOException {
-        try {
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .GET()
-                    .build();
-
-            return httpClient.send(request, HttpResponse.BodyHandlers.ofString())
-                    .body();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IOException("Request interrupted", e);
+    protected CompletableFuture<TransportResponse<InputStream>> sendForStream(
+            String url, Duration timeout, String ifNoneMatch) {
+        HttpRequest request = buildRequest(url, timeout, ifNoneMatch);
+        return abortOnCancel(httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream()),
+                response -> toTransportResponse(response, response.body()));
+    }
+
+    private static <B, T> CompletableFuture<TransportResponse<T>> abortOnCancel(
+            CompletableFuture<HttpResponse<B>> exchange, Function<HttpResponse<B>, TransportResponse<T>> reader) {
+        CompletableFuture<TransportResponse<T>> result = exchange.thenApply(reader);
+        // Cancelling the mapped stage does not reach the exchange by itself
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private static TransportResponse<String> decodeString(HttpResponse<byte[]> response) {
+        byte[] body = response.body();
+        if (isGzipped(response)) {
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                body = in.readAllBytes();
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }
+        return new TransportResponse<>(response.statusCode(), header(response, RETRY_AFTER_HEADER),
+                header(response, ETAG_HEADER), null, body.length, new String(body, StandardCharsets.UTF_8));
+    }
+
+    private static <T> TransportResponse<T> toTransportResponse(HttpResponse<?> response, T body) {
+        return new TransportResponse<>(response.statusCode(), header(response, RETRY_AFTER_HEADER),
+                header(response, ETAG_HEADER), header(response, CONTENT_ENCODING_HEADER), -1, body);
+    }
+
+    private static boolean isGzipped(HttpResponse<?> response) {
+        return GZIP_ENCODING.equalsIgnoreCase(header(response, CONTENT_ENCODING_HEADER));
+    }
+
+    private static String header(HttpResponse<?> response, String name) {
+        return response.headers().firstValue(name).orElse(null);
+    }
+
+    private HttpRequest buildRequest(String url, Duration timeout, String ifNoneMatch) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(timeout)
+                .GET();
+        if (getOptions().isCompression()) {
+            builder.header(ACCEPT_ENCODING_HEADER, GZIP_ENCODING);
+        }
+        if (ifNoneMatch != null) {
+            builder.header(IF_NONE_MATCH_HEADER, ifNoneMatch);
         }
+        return builder.build();
     }
 }
@@ -0,0 +1,219 @@
+package com.osrshiscores.apiclient.service.impl;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.osrshiscores.apiclient.service.ClientMetrics;
+
+/**
+ * In-memory implementation of the ClientMetrics interface.
+ * Counters are LongAdders and latencies go into lock-free histograms, so recording never blocks a request.
+ * Useful on its own to find where lookup time goes, or as a reference for an adapter to another metrics system.
+ */
+public class InMemoryClientMetrics implements ClientMetrics {
+    private static final int STATUS_CLIENT_ERROR = 400;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder inFlight = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final LongAdder negativeCacheHits = new LongAdder();
+    private final ConcurrentMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final LatencyHistogram requestLatency = new LatencyHistogram();
+    private final LatencyHistogram parseTime = new LatencyHistogram();
+
+    @Override
+    public void requestStarted() {
+        requests.increment();
+        inFlight.increment();
+    }
+
+    @Override
+    public void requestCompleted(int statusCode, long latencyNanos, long bodyBytes) {
+        inFlight.decrement();
+        requestLatency.record(latencyNanos);
+        if (bodyBytes > 0) {
+            bytesReceived.add(bodyBytes);
+        }
+        if (statusCode >= STATUS_CLIENT_ERROR) {
+            countError("HTTP " + statusCode);
+        }
+    }
+
+    @Override
+    public void requestFailed(Throwable error, long latencyNanos) {
+        inFlight.decrement();
+        // A cancelled attempt lost a race against its hedge and is not a failure
+        if (!(error instanceof CancellationException)) {
+            requestLatency.record(latencyNanos);
+            countError(error.getClass().getSimpleName());
+        }
+    }
+
+    @Override
+    public void retryScheduled(int attemptNumber, long backoffNanos) {
+        retries.increment();
+    }
+
+    @Override
+    public void hedgeSent() {
+        hedges.increment();
+    }
+
+    @Override
+    public void parseCompleted(long parseNanos) {
+        parseTime.record(parseNanos);
+    }
+
+    @Override
+    public void cacheHit() {
+        cacheHits.increment();
+    }
+
+    @Override
+    public void cacheMiss() {
+        cacheMisses.increment();
+    }
+
+    @Override
+    public void negativeCacheHit() {
+        negativeCacheHits.increment();
+    }
+
+    @Override
+    public void lookupFailed(IOException error) {
+        countError(error.getClass().getSimpleName());
+    }
+
+    private void countError(String type) {
+        errors.computeIfAbsent(type, ignored -> new LongAdder()).increment();
+    }
+
+    /**
+     * Returns the number of HTTP attempts sent, including retries and hedges.
+     *
+     * @return The request count
+     */
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * Returns the number of HTTP attempts currently waiting for a response.
+     *
+     * @return The in-flight count
+     */
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    /**
+     * Returns the total size of the decoded response bodies received, excluding streamed bodies.
+     *
+     * @return The number of bytes received
+     */
+    public long getBytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    /**
+     * Returns the number of retries scheduled after transient failures.
+     *
+     * @return The retry count
+     */
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    /**
+     * Returns the number of hedged requests sent.
+     *
+     * @return The hedge count
+     */
+    public long getHedgeCount() {
+        return hedges.sum();
+    }
+
+    /**
+     * Returns the number of lookups answered by the player cache.
+     *
+     * @return The cache hit count
+     */
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that missed the player cache.
+     *
+     * @return The cache miss count
+     */
+    public long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    /**
+     * Returns the number of lookups rejected by the negative cache.
+     *
+     * @return The negative cache hit count
+     */
+    public long getNegativeCacheHits() {
+        return negativeCacheHits.sum();
+    }
+
+    /**
+     * Returns the number of errors of each type: unsuccessful HTTP statuses per attempt as "HTTP 429" and so on,
+     * transport failures per attempt and failed lookups by exception class.
+     *
+     * @return The error counts, sorted by type
+     */
+    public Map<String, Long> getErrorCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        errors.forEach((type, count) -> counts.put(type, count.sum()));
+        return counts;
+    }
+
+    /**
+     * Returns a percentile of the HTTP attempt latency, accurate to within 12.5%.
+     *
+     * @param quantile The quantile, between 0 and 1, for example 0.99
+     * @return The latency, or zero if nothing was recorded
+     */
+    public Duration getRequestLatency(double quantile) {
+        return Duration.ofNanos(requestLatency.percentile(quantile));
+    }
+
+    /**
+     * Returns a percentile of the time spent parsing responses, accurate to within 12.5%.
+     *
+     * @param quantile The quantile, between 0 and 1, for example 0.99
+     * @return The parse time, or zero if nothing was recorded
+     */
+    public Duration getParseTime(double quantile) {
+        return Duration.ofNanos(parseTime.percentile(quantile));
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryClientMetrics(requests=" + getRequestCount()
+                + ", inFlight=" + getInFlight()
+                + ", latencyMeanMs=" + Duration.ofNanos(requestLatency.mean()).toMillis()
+                + ", retries=" + getRetryCount()
+                + ", hedges=" + getHedgeCount()
+                + ", bytes=" + getBytesReceived()
+                + ", parses=" + parseTime.getCount()
+                + ", cacheHits=" + getCacheHits()
+                + ", cacheMisses=" + getCacheMisses()
+                + ", negativeCacheHits=" + getNegativeCacheHits()
+                + ", errors=" + getErrorCounts() + ")";
+    }
+}
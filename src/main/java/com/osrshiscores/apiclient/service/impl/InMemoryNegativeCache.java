@@ -0,0 +1,94 @@
+package com.osrshiscores.apiclient.service.impl;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.osrshiscores.apiclient.model.output.CacheStats;
+import com.osrshiscores.apiclient.service.NegativeCache;
+
+/**
+ * In-memory implementation of the NegativeCache interface.
+ * Missing players are remembered for a fixed time-to-live, typically longer than the positive cache's,
+ * and the least recently used entry is evicted once the cache is full.
+ */
+public class InMemoryNegativeCache implements NegativeCache {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final long ttlNanos;
+    private final Map<String, Long> markedAtNanos;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new InMemoryNegativeCache.
+     *
+     * @param ttl How long a player stays marked as missing
+     * @param maxSize The maximum number of missing players to remember
+     */
+    public InMemoryNegativeCache(Duration ttl, int maxSize) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+
+        this.ttlNanos = ttl.toNanos();
+        this.markedAtNanos = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                boolean evict = size() > maxSize;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+    }
+
+    @Override
+    public boolean isKnownMissing(String key) {
+        boolean missing;
+        synchronized (markedAtNanos) {
+            Long markedAt = markedAtNanos.get(key);
+            missing = markedAt != null && System.nanoTime() - markedAt < ttlNanos;
+            if (markedAt != null && !missing) {
+                markedAtNanos.remove(key);
+            }
+        }
+
+        if (missing) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return missing;
+    }
+
+    @Override
+    public void markMissing(String key) {
+        synchronized (markedAtNanos) {
+            markedAtNanos.put(key, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void invalidate(String key) {
+        synchronized (markedAtNanos) {
+            markedAtNanos.remove(key);
+        }
+    }
+
+    @Override
+    public CacheStats getStats() {
+        int size;
+        synchronized (markedAtNanos) {
+            size = markedAtNanos.size();
+        }
+        return new CacheStats(hits.sum(), misses.sum(), 0, evictions.sum(), size);
+    }
+}
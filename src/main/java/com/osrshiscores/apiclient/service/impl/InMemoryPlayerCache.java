@@ -0,0 +1,213 @@
+package com.osrshiscores.apiclient.service.impl;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import com.osrshiscores.apiclient.model.output.CacheStats;
+import com.osrshiscores.apiclient.model.output.OsrsPlayer;
+import com.osrshiscores.apiclient.service.PlayerCache;
+
+/**
+ * In-memory implementation of the PlayerCache interface.
+ * Entries expire after a fixed time-to-live, and the least recently used entry is evicted once the cache is full.
+ * Concurrent misses for the same key share a single load.
+ * Hits read from a concurrent map and never wait for a lock; recency is only updated when the lock is free,
+ * so under heavy contention eviction approximates least recently used order.
+ * Invalidating a key while it is loading, or putting a player under it, discards that load's result instead of
+ * caching it.
+ */
+public class InMemoryPlayerCache implements PlayerCache {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final long ttlNanos;
+    private final Lock lock = new ReentrantLock();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Entry> order;
+    private final ConcurrentMap<String, CompletableFuture<OsrsPlayer>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new InMemoryPlayerCache.
+     *
+     * @param ttl How long a cached player stays valid after it was loaded
+     * @param maxSize The maximum number of players to keep
+     */
+    public InMemoryPlayerCache(Duration ttl, int maxSize) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+
+        this.ttlNanos = ttl.toNanos();
+        this.order = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                boolean evict = size() > maxSize;
+                if (evict) {
+                    entries.remove(eldest.getKey(), eldest.getValue());
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+    }
+
+    @Override
+    public CompletableFuture<OsrsPlayer> get(String key, Supplier<CompletableFuture<OsrsPlayer>> loader) {
+        OsrsPlayer cached = lookup(key);
+        if (cached != null) {
+            hits.increment();
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<OsrsPlayer> pending = new CompletableFuture<>();
+        CompletableFuture<OsrsPlayer> existing = inFlight.putIfAbsent(key, pending);
+        if (existing != null) {
+            coalesced.increment();
+            return existing.copy();
+        }
+
+        // Another caller may have finished loading between the lookup and claiming the key
+        cached = lookup(key);
+        if (cached != null) {
+            hits.increment();
+            inFlight.remove(key, pending);
+            pending.complete(cached);
+            return pending;
+        }
+
+        misses.increment();
+        load(key, loader, pending);
+        return pending.copy();
+    }
+
+    @Override
+    public void put(String key, CompletableFuture<OsrsPlayer> player) {
+        CompletableFuture<OsrsPlayer> pending = new CompletableFuture<>();
+        lock.lock();
+        try {
+            entries.remove(key);
+            order.remove(key);
+            // Replacing the in-flight entry discards the result of a load already running for the key
+            inFlight.put(key, pending);
+        } finally {
+            lock.unlock();
+        }
+        load(key, () -> player, pending);
+    }
+
+    @Override
+    public void invalidate(String key) {
+        lock.lock();
+        try {
+            entries.remove(key);
+            order.remove(key);
+            inFlight.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            entries.clear();
+            order.clear();
+            inFlight.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CacheStats getStats() {
+        return new CacheStats(hits.sum(), misses.sum(), coalesced.sum(), evictions.sum(), entries.size());
+    }
+
+    private void load(String key, Supplier<CompletableFuture<OsrsPlayer>> loader,
+            CompletableFuture<OsrsPlayer> pending) {
+        CompletableFuture<OsrsPlayer> loading;
+        try {
+            loading = loader.get();
+        } catch (RuntimeException e) {
+            loading = CompletableFuture.failedFuture(e);
+        }
+
+        loading.whenComplete((player, error) -> {
+            finish(key, pending, player, error == null);
+            if (error == null) {
+                pending.complete(player);
+            } else {
+                pending.completeExceptionally(error);
+            }
+        });
+    }
+
+    private OsrsPlayer lookup(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.loadedAtNanos >= ttlNanos) {
+            remove(key, entry);
+            return null;
+        }
+        if (lock.tryLock()) {
+            try {
+                order.get(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+        return entry.player;
+    }
+
+    private void finish(String key, CompletableFuture<OsrsPlayer> pending, OsrsPlayer player, boolean store) {
+        lock.lock();
+        try {
+            // An invalidation during the load already removed the in-flight entry, so the result is stale
+            if (inFlight.remove(key, pending) && store) {
+                Entry entry = new Entry(player, System.nanoTime());
+                entries.put(key, entry);
+                order.put(key, entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(String key, Entry entry) {
+        lock.lock();
+        try {
+            entries.remove(key, entry);
+            order.remove(key, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Entry {
+        private final OsrsPlayer player;
+        private final long loadedAtNanos;
+
+        Entry(OsrsPlayer player, long loadedAtNanos) {
+            this.player = player;
+            this.loadedAtNanos = loadedAtNanos;
+        }
+    }
+}
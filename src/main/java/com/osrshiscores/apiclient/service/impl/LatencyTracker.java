@@ -0,0 +1,48 @@
+package com.osrshiscores.apiclient.service.impl;
+
+import java.util.Arrays;
+
+/**
+ * Keeps a sliding window of recent request latencies and estimates percentiles over it.
+ * The percentile is recomputed only every few samples, so querying it on every request stays cheap.
+ */
+final class LatencyTracker {
+    private static final int CAPACITY = 256;
+    private static final int MIN_SAMPLES = 32;
+    private static final int RECOMPUTE_INTERVAL = 16;
+
+    private final long[] samples = new long[CAPACITY];
+    private int count;
+    private int next;
+    private int recordedSinceRecompute;
+    private double cachedQuantile = Double.NaN;
+    private long cachedValue = -1;
+
+    synchronized void record(long latencyNanos) {
+        samples[next] = latencyNanos;
+        next = (next + 1) % CAPACITY;
+        count = Math.min(count + 1, CAPACITY);
+        recordedSinceRecompute++;
+    }
+
+    /**
+     * Returns the latency at the given quantile of the window.
+     *
+     * @param quantile The quantile to estimate, between 0 and 1
+     * @return The latency in nanoseconds, or -1 if too few samples have been recorded
+     */
+    synchronized long percentile(double quantile) {
+        if (count < MIN_SAMPLES) {
+            return -1;
+        }
+        if (quantile != cachedQuantile || recordedSinceRecompute >= RECOMPUTE_INTERVAL) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = Math.min(count - 1, (int) Math.ceil(quantile * count) - 1);
+            cachedValue = sorted[Math.max(0, index)];
+            cachedQuantile = quantile;
+            recordedSinceRecompute = 0;
+        }
+        return cachedValue;
+    }
+}
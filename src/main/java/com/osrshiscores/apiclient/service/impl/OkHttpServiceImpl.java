@@ -0,0 +1,148 @@
+package com.osrshiscores.apiclient.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.osrshiscores.apiclient.model.input.HttpOptions;
+import com.osrshiscores.apiclient.utils.VirtualThreads;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Implementation of the HttpService interface using OkHttp.
+ * Unlike Java's HttpClient, OkHttp's connection pool size and keep-alive are configured per client,
+ * so idle TLS connections to the hiscores are reused across bulk sweeps. HTTP/2 is negotiated when enabled,
+ * and gzip responses are requested and decompressed transparently unless compression is disabled.
+ */
+public class OkHttpServiceImpl extends AbstractHttpService {
+    private static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+    private static final String IDENTITY_ENCODING = "identity";
+    private final OkHttpClient httpClient;
+
+    /**
+     * Creates a new OkHttpServiceImpl with default options.
+     */
+    public OkHttpServiceImpl() {
+        this(HttpOptions.defaults());
+    }
+
+    /**
+     * Creates a new OkHttpServiceImpl with custom transport options.
+     *
+     * @param options Options for configuring the underlying OkHttpClient
+     */
+    public OkHttpServiceImpl(HttpOptions options) {
+        super(options);
+        Dispatcher dispatcher = options.isUseVirtualThreads()
+                ? new Dispatcher(VirtualThreads.newVirtualThreadPerTaskExecutor())
+                : new Dispatcher();
+        // Every request goes to the same host, so the per-host limit would otherwise cap concurrency
+        dispatcher.setMaxRequestsPerHost(dispatcher.getMaxRequests());
+
+        this.httpClient = new OkHttpClient.Builder()
+                .connectTimeout(options.getConnectTimeout())
+                .connectionPool(new ConnectionPool(options.getMaxIdleConnections(),
+                        options.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS))
+                .dispatcher(dispatcher)
+                .protocols(options.isHttp2() ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1) : List.of(Protocol.HTTP_1_1))
+                .build();
+    }
+
+    @Override
+    protected CompletableFuture<TransportResponse<String>> sendForString(
+            String url, Duration timeout, String ifNoneMatch) {
+        return send(buildRequest(url, ifNoneMatch), timeout, response -> {
+            try (ResponseBody body = response.body()) {
+                byte[] bytes = body == null ? new byte[0] : body.bytes();
+                return toTransportResponse(response, bytes.length, new String(bytes, StandardCharsets.UTF_8));
+            }
+        });
+    }
+
+    @Override
+    protected CompletableFuture<TransportResponse<InputStream>> sendForStream(
+            String url, Duration timeout, String ifNoneMatch) {
+        return send(buildRequest(url, ifNoneMatch), timeout, response -> {
+            ResponseBody body = response.body();
+            return toTransportResponse(response, -1,
+                    body == null ? InputStream.nullInputStream() : body.byteStream());
+        });
+    }
+
+    private <T> CompletableFuture<TransportResponse<T>> send(
+            Request request, Duration timeout, ResponseReader<T> reader) {
+        Call call = httpClient.newCall(request);
+        call.timeout().timeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+
+        CompletableFuture<TransportResponse<T>> future = new CompletableFuture<>();
+        future.whenComplete((response, error) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call failed, IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call completed, Response response) {
+                if (future.isCancelled()) {
+                    response.close();
+                    return;
+                }
+                try {
+                    // A streamed body is left open for the caller, so nobody else would close it if the future lost
+                    if (!future.complete(reader.read(response))) {
+                        response.close();
+                    }
+                } catch (IOException e) {
+                    response.close();
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+        return future;
+    }
+
+    private static <T> TransportResponse<T> toTransportResponse(Response response, long bodyBytes, T body) {
+        // OkHttp strips Content-Encoding once it has decompressed the body itself
+        return new TransportResponse<>(response.code(), response.header(RETRY_AFTER_HEADER),
+                response.header(ETAG_HEADER), null, bodyBytes, body);
+    }
+
+    private Request buildRequest(String url, String ifNoneMatch) {
+        Request.Builder builder = new Request.Builder().url(url).get();
+        if (!getOptions().isCompression()) {
+            builder.header(ACCEPT_ENCODING_HEADER, IDENTITY_ENCODING);
+        }
+        if (ifNoneMatch != null) {
+            builder.header(IF_NONE_MATCH_HEADER, ifNoneMatch);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Turns an OkHttp response into a TransportResponse, reading or handing over its body.
+     *
+     * @param <T> The type of the response body
+     */
+    @FunctionalInterface
+    private interface ResponseReader<T> {
+        TransportResponse<T> read(Response response) throws IOException;
+    }
+}
@@ -0,0 +1,85 @@
+package com.osrshiscores.apiclient.service.impl;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import com.osrshiscores.apiclient.exception.HiscoresException;
+import com.osrshiscores.apiclient.exception.HiscoresServerException;
+import com.osrshiscores.apiclient.exception.PlayerNotFoundException;
+import com.osrshiscores.apiclient.exception.RateLimitedException;
+
+/**
+ * Classifies HTTP response statuses for AbstractHttpService, and turns unsuccessful responses
+ * into typed HiscoresExceptions.
+ */
+final class ResponseStatus {
+    private static final int STATUS_SUCCESS_MIN = 200;
+    private static final int STATUS_SUCCESS_MAX = 299;
+    private static final int STATUS_NOT_MODIFIED = 304;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_TOO_MANY_REQUESTS = 429;
+    private static final int STATUS_SERVER_ERROR = 500;
+    private static final int STATUS_SERVICE_UNAVAILABLE = 503;
+
+    private ResponseStatus() {
+        // Utility class, no instantiation needed
+    }
+
+    static boolean isSuccess(int statusCode) {
+        return statusCode >= STATUS_SUCCESS_MIN && statusCode <= STATUS_SUCCESS_MAX || isNotModified(statusCode);
+    }
+
+    static boolean isNotModified(int statusCode) {
+        return statusCode == STATUS_NOT_MODIFIED;
+    }
+
+    static boolean isThrottling(int statusCode) {
+        return statusCode == STATUS_TOO_MANY_REQUESTS || statusCode == STATUS_SERVICE_UNAVAILABLE;
+    }
+
+    static boolean isTransient(int statusCode) {
+        return statusCode == STATUS_TOO_MANY_REQUESTS || statusCode >= STATUS_SERVER_ERROR;
+    }
+
+    /**
+     * Returns the delay a throttling response asks for, from a Retry-After header given in seconds.
+     *
+     * @param response The response, or null if the request failed without one
+     * @return The requested delay in nanoseconds, or 0 if none was given
+     */
+    static long retryAfterNanos(TransportResponse<?> response) {
+        if (response == null) {
+            return 0;
+        }
+        String value = response.getRetryAfter();
+        if (value == null || value.isEmpty() || !value.chars().allMatch(Character::isDigit)) {
+            return 0;
+        }
+        return TimeUnit.SECONDS.toNanos(Long.parseLong(value));
+    }
+
+    /**
+     * Creates the exception reporting an unsuccessful response.
+     *
+     * @param url The URL that was requested
+     * @param response The unsuccessful response
+     * @return PlayerNotFoundException for 404, RateLimitedException for 429, HiscoresServerException for 5xx,
+     *         and HiscoresException for any other status
+     */
+    static HiscoresException toException(String url, TransportResponse<?> response) {
+        int status = response.getStatusCode();
+        String message = "HTTP " + status + " from " + url;
+        if (status == STATUS_NOT_FOUND) {
+            return new PlayerNotFoundException(message);
+        }
+        if (status == STATUS_TOO_MANY_REQUESTS) {
+            long retryAfterNanos = retryAfterNanos(response);
+            Duration retryAfter = retryAfterNanos > 0 ? Duration.ofNanos(retryAfterNanos) : null;
+            return new RateLimitedException(message, status, retryAfter);
+        }
+        if (status >= STATUS_SERVER_ERROR) {
+            return new HiscoresServerException(message, status);
+        }
+        return new HiscoresException(message, status);
+    }
+}
@@ -0,0 +1,58 @@
+package com.osrshiscores.apiclient.service.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import lombok.Value;
+
+/**
+ * The parts of an HTTP response that the retry and error handling in AbstractHttpService need,
+ * independent of the HTTP client library that produced it.
+ *
+ * @param <T> The type of the response body
+ */
+@Value
+public class TransportResponse<T> {
+    /**
+     * The HTTP status code.
+     */
+    private final int statusCode;
+
+    /**
+     * The value of the Retry-After header, or null if absent.
+     */
+    private final String retryAfter;
+
+    /**
+     * The value of the ETag header, or null if absent.
+     */
+    private final String etag;
+
+    /**
+     * The value of the Content-Encoding header if the body is still encoded, or null.
+     */
+    private final String contentEncoding;
+
+    /**
+     * The size of the decoded body in bytes, or -1 if the body is streamed.
+     */
+    private final long bodyBytes;
+
+    /**
+     * The response body.
+     */
+    private final T body;
+
+    /**
+     * Releases the body of a response that will not be read, closing it if it is a stream.
+     */
+    void discard() {
+        if (body instanceof Closeable) {
+            try {
+                ((Closeable) body).close();
+            } catch (IOException e) {
+                // Nothing useful can be done with a failure to release an unused body
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.osrshiscores.apiclient.testing;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import com.osrshiscores.apiclient.OsrsApiClient;
+import com.osrshiscores.apiclient.model.input.LoadTestOptions;
+import com.osrshiscores.apiclient.model.output.LoadTestReport;
+import com.osrshiscores.apiclient.model.output.OsrsPlayer;
+
+/**
+ * Drives an OsrsApiClient at a target rate and reports the throughput and latency it achieved.
+ * Lookups are started asynchronously at evenly spaced times, whether or not earlier lookups have completed,
+ * so the offered load stays at the target even when the client or server slows down. Run it against a
+ * StubHiscoresServer to size a deployment without touching the real hiscores. The client's rate limiter still
+ * paces every lookup, so give the client one that sustains the target rate before raising it.
+ */
+public class LoadGenerator {
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final double P50 = 0.50;
+    private static final double P90 = 0.90;
+    private static final double P99 = 0.99;
+
+    private final OsrsApiClient client;
+    private final LoadTestOptions options;
+
+    /**
+     * Creates a new LoadGenerator.
+     *
+     * @param client The client to drive, configured as it would be in production
+     * @param options Options for the rate, duration and names to look up
+     */
+    public LoadGenerator(OsrsApiClient client, LoadTestOptions options) {
+        if (options.getRequestsPerSecond() <= 0) {
+            throw new IllegalArgumentException("requestsPerSecond must be positive");
+        }
+        if (options.getRsns() == null || options.getRsns().isEmpty()) {
+            throw new IllegalArgumentException("rsns must not be empty");
+        }
+
+        this.client = client;
+        this.options = options;
+    }
+
+    /**
+     * Runs the load test on the calling thread: the warmup first, then the measured run.
+     * Returns once every lookup it started has completed.
+     *
+     * @return The throughput, latency percentiles and errors of the measured run
+     * @throws InterruptedException If the calling thread is interrupted
+     */
+    public LoadTestReport run() throws InterruptedException {
+        double intervalNanos = NANOS_PER_SECOND / options.getRequestsPerSecond();
+        if (!options.getWarmup().isZero()) {
+            drive(requestCount(options.getWarmup(), intervalNanos), intervalNanos);
+        }
+        return drive(requestCount(options.getDuration(), intervalNanos), intervalNanos);
+    }
+
+    private static int requestCount(Duration duration, double intervalNanos) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, (long) (duration.toNanos() / intervalNanos)));
+    }
+
+    private LoadTestReport drive(int requestCount, double intervalNanos) throws InterruptedException {
+        List<String> rsns = options.getRsns();
+        long[] latencies = new long[requestCount];
+        LongAdder successes = new LongAdder();
+        Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(requestCount);
+
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < requestCount; i++) {
+            long scheduledNanos = startNanos + (long) (i * intervalNanos);
+            waitUntil(scheduledNanos);
+
+            int index = i;
+            CompletableFuture<OsrsPlayer> lookup;
+            try {
+                lookup = client.getPlayerByRsnAsync(rsns.get(i % rsns.size()), options.getFetchOptions());
+            } catch (RuntimeException e) {
+                lookup = CompletableFuture.failedFuture(e);
+            }
+            lookup.whenComplete((player, error) -> {
+                latencies[index] = System.nanoTime() - scheduledNanos;
+                if (error == null) {
+                    successes.increment();
+                } else {
+                    errors.computeIfAbsent(errorName(error), name -> new LongAdder()).increment();
+                }
+                done.countDown();
+            });
+        }
+        done.await();
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        // The latch orders every latency write before this read
+        Arrays.sort(latencies);
+        Map<String, Long> errorCounts = new TreeMap<>();
+        errors.forEach((name, count) -> errorCounts.put(name, count.sum()));
+        long successCount = successes.sum();
+        return LoadTestReport.builder()
+                .requestCount(requestCount)
+                .successCount(successCount)
+                .failureCount(requestCount - successCount)
+                .errorCounts(errorCounts)
+                .elapsed(Duration.ofNanos(elapsedNanos))
+                .latencyP50(percentile(latencies, P50))
+                .latencyP90(percentile(latencies, P90))
+                .latencyP99(percentile(latencies, P99))
+                .latencyMax(Duration.ofNanos(latencies[latencies.length - 1]))
+                .build();
+    }
+
+    private static void waitUntil(long deadlineNanos) throws InterruptedException {
+        long remaining = deadlineNanos - System.nanoTime();
+        while (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            remaining = deadlineNanos - System.nanoTime();
+        }
+    }
+
+    private static String errorName(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause.getClass().getSimpleName();
+    }
+
+    private static Duration percentile(long[] sorted, double quantile) {
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return Duration.ofNanos(sorted[Math.max(0, rank - 1)]);
+    }
+}
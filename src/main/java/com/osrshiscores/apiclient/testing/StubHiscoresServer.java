@@ -0,0 +1,282 @@
+package com.osrshiscores.apiclient.testing;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.osrshiscores.apiclient.model.input.HiscoresFormat;
+import com.osrshiscores.apiclient.model.input.Rsn;
+import com.osrshiscores.apiclient.model.input.StubServerOptions;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * An in-process HTTP server that imitates the hiscores, for load and integration tests of code using the client.
+ * It serves recorded index_lite payloads in both formats for every game mode, and can add latency, server errors
+ * and throttling responses at configurable rates. Point a client at it through {@code ClientOptions.hiscoresUrl}.
+ * Requests are answered after their delay by a scheduled pool, so slow responses do not tie up a thread each.
+ */
+public class StubHiscoresServer implements Closeable {
+    private static final String SAMPLE_PAYLOAD = "/stub/index_lite.";
+    private static final String CSV_EXTENSION = "txt";
+    private static final String JSON_EXTENSION = "json";
+    private static final String PLAYER_PARAMETER = "player=";
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_TOO_MANY_REQUESTS = 429;
+    private static final int STATUS_SERVICE_UNAVAILABLE = 503;
+    private static final byte[] EMPTY_BODY = new byte[0];
+    // Room for the burst of new connections a client opens when a load test starts
+    private static final int CONNECTION_BACKLOG = 1024;
+
+    private final StubServerOptions options;
+    private final HttpServer server;
+    private final ScheduledExecutorService responders;
+    // Keyed by format, then by canonical name; filled in the constructor and only read afterwards
+    private final Map<HiscoresFormat, Map<String, byte[]>> payloads = new EnumMap<>(HiscoresFormat.class);
+    private final Map<HiscoresFormat, byte[]> defaultPayloads = new ConcurrentHashMap<>();
+    private final String retryAfterSeconds;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+
+    /**
+     * Creates a stub server bound to the loopback address. Call {@link #start()} to begin serving.
+     *
+     * @param options Options for the port, latency and injected failures
+     * @throws IOException If the port cannot be bound
+     */
+    public StubHiscoresServer(StubServerOptions options) throws IOException {
+        if (options.getErrorRate() < 0 || options.getThrottleRate() < 0
+                || options.getErrorRate() + options.getThrottleRate() > 1) {
+            throw new IllegalArgumentException("errorRate and throttleRate must be non-negative and sum to at most 1");
+        }
+
+        this.options = options;
+        this.server = HttpServer.create(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), options.getPort()), CONNECTION_BACKLOG);
+        this.responders = Executors.newScheduledThreadPool(options.getResponderThreads());
+        Duration retryAfter = options.getRetryAfter();
+        this.retryAfterSeconds = Long.toString(retryAfter.getSeconds() + (retryAfter.getNano() > 0 ? 1 : 0));
+        for (HiscoresFormat format : HiscoresFormat.values()) {
+            payloads.put(format, new ConcurrentHashMap<>());
+        }
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Loads the recorded CSV index_lite response bundled with the client, for use as a player's payload.
+     *
+     * @return A recorded CSV hiscores response
+     * @throws IOException If the resource cannot be read
+     */
+    public static String samplePayload() throws IOException {
+        return samplePayload(HiscoresFormat.CSV);
+    }
+
+    /**
+     * Loads the recorded index_lite response bundled with the client in the given format.
+     * Both formats describe the same player.
+     *
+     * @param format The response format
+     * @return A recorded hiscores response
+     * @throws IOException If the resource cannot be read
+     */
+    public static String samplePayload(HiscoresFormat format) throws IOException {
+        String resource = SAMPLE_PAYLOAD + (format == HiscoresFormat.JSON ? JSON_EXTENSION : CSV_EXTENSION);
+        try (InputStream stream = StubHiscoresServer.class.getResourceAsStream(resource)) {
+            if (stream == null) {
+                throw new IOException("Missing sample payload " + resource);
+            }
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Starts serving requests in the background.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Serves a recorded CSV index_lite response for a player, in every game mode.
+     * Any spelling of the name matches, as on the real hiscores.
+     *
+     * @param rsn The player's RuneScape name
+     * @param payload The CSV response to serve
+     */
+    public void addPlayer(String rsn, String payload) {
+        addPlayer(rsn, HiscoresFormat.CSV, payload);
+    }
+
+    /**
+     * Serves a recorded index_lite response for a player from the given format's endpoint, in every game mode.
+     * Any spelling of the name matches, as on the real hiscores.
+     *
+     * @param rsn The player's RuneScape name
+     * @param format The format of the payload, which selects the endpoint serving it
+     * @param payload The response to serve
+     */
+    public void addPlayer(String rsn, HiscoresFormat format, String payload) {
+        payloads.get(format).put(Rsn.of(rsn).getCanonical(), payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Sets the CSV response served for players without a payload of their own, so a load test can use any names.
+     * Without a default, such players are answered with 404 Not Found.
+     *
+     * @param payload The CSV response to serve, or null to answer 404
+     */
+    public void setDefaultPayload(String payload) {
+        setDefaultPayload(HiscoresFormat.CSV, payload);
+    }
+
+    /**
+     * Sets the response served from the given format's endpoint for players without a payload of their own.
+     * Without a default, such players are answered with 404 Not Found.
+     *
+     * @param format The format of the payload, which selects the endpoint serving it
+     * @param payload The response to serve, or null to answer 404
+     */
+    public void setDefaultPayload(HiscoresFormat format, String payload) {
+        if (payload != null) {
+            defaultPayloads.put(format, payload.getBytes(StandardCharsets.UTF_8));
+        } else {
+            defaultPayloads.remove(format);
+        }
+    }
+
+    /**
+     * Returns the base URL to configure the client with, in the form of {@link
+     * com.osrshiscores.apiclient.model.input.ClientOptions#DEFAULT_HISCORES_URL}.
+     *
+     * @return The hiscores URL of this server
+     */
+    public String getHiscoresUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ':' + address.getPort() + "/m=";
+    }
+
+    /**
+     * Returns the number of requests received.
+     *
+     * @return The request count
+     */
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * Returns the number of requests answered with an injected server error.
+     *
+     * @return The error count
+     */
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    /**
+     * Returns the number of requests answered with an injected throttling response.
+     *
+     * @return The throttled count
+     */
+    public long getThrottledCount() {
+        return throttled.sum();
+    }
+
+    /**
+     * Stops the server. Responses still waiting out their latency are dropped.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        responders.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) {
+        requests.increment();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delayNanos = options.getLatency().toNanos();
+        long jitterNanos = options.getLatencyJitter().toNanos();
+        if (jitterNanos > 0) {
+            delayNanos += random.nextLong(jitterNanos + 1);
+        }
+
+        double roll = random.nextDouble();
+        if (roll < options.getThrottleRate()) {
+            throttled.increment();
+            exchange.getResponseHeaders().set("Retry-After", retryAfterSeconds);
+            respondLater(exchange, STATUS_TOO_MANY_REQUESTS, EMPTY_BODY, delayNanos);
+        } else if (roll < options.getThrottleRate() + options.getErrorRate()) {
+            errors.increment();
+            respondLater(exchange, STATUS_SERVICE_UNAVAILABLE, EMPTY_BODY, delayNanos);
+        } else {
+            byte[] payload = findPayload(exchange);
+            respondLater(exchange, payload != null ? STATUS_OK : STATUS_NOT_FOUND,
+                    payload != null ? payload : EMPTY_BODY, delayNanos);
+        }
+    }
+
+    private byte[] findPayload(HttpExchange exchange) {
+        String path = exchange.getRequestURI().getRawPath();
+        String query = exchange.getRequestURI().getRawQuery();
+        HiscoresFormat format = findFormat(path);
+        if (format == null || query == null) {
+            return null;
+        }
+        int start = query.indexOf(PLAYER_PARAMETER);
+        if (start < 0) {
+            return null;
+        }
+        int end = query.indexOf('&', start);
+        String rsn = URLDecoder.decode(
+                query.substring(start + PLAYER_PARAMETER.length(), end < 0 ? query.length() : end),
+                StandardCharsets.UTF_8);
+        try {
+            byte[] payload = payloads.get(format).get(Rsn.of(rsn).getCanonical());
+            return payload != null ? payload : defaultPayloads.get(format);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static HiscoresFormat findFormat(String path) {
+        for (HiscoresFormat format : HiscoresFormat.values()) {
+            if (path.endsWith(format.getEndpoint())) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    private void respondLater(HttpExchange exchange, int status, byte[] body, long delayNanos) {
+        responders.schedule(() -> respond(exchange, status, body), delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) {
+        try {
+            exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (IOException e) {
+            // The client gave up waiting; nothing left to do
+            exchange.close();
+        }
+    }
+}
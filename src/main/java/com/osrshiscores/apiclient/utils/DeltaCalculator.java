@@ -0,0 +1,47 @@
+package com.osrshiscores.apiclient.utils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.osrshiscores.apiclient.model.output.PlayerDelta;
+import com.osrshiscores.apiclient.model.output.PlayerSnapshot;
+
+/**
+ * Utility class for computing gains across many snapshot pairs at once.
+ * Each pair is independent, so large batches can be split across a parallel stream.
+ */
+public final class DeltaCalculator {
+
+    /**
+     * Private constructor to prevent instantiation.
+     * This is a utility class with only static methods.
+     */
+    private DeltaCalculator() {
+        // Utility class, no instantiation needed
+    }
+
+    /**
+     * Computes the gains for every pair of snapshots at the same position in the two lists.
+     * Both lists should support fast random access.
+     *
+     * @param before The earlier snapshots
+     * @param after The later snapshots, in the same player order as before
+     * @param parallel Whether to compute the deltas on the common fork-join pool
+     * @return The deltas, in the same order as the input
+     */
+    public static List<PlayerDelta> calculateAll(List<PlayerSnapshot> before, List<PlayerSnapshot> after,
+            boolean parallel) {
+        if (before.size() != after.size()) {
+            throw new IllegalArgumentException("before and after must contain the same number of snapshots");
+        }
+
+        PlayerDelta[] deltas = new PlayerDelta[before.size()];
+        IntStream indices = IntStream.range(0, deltas.length);
+        if (parallel) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> deltas[i] = PlayerDelta.between(before.get(i), after.get(i)));
+        return Arrays.asList(deltas);
+    }
+}
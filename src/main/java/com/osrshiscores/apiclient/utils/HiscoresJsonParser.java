@@ -0,0 +1,160 @@
+package com.osrshiscores.apiclient.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.osrshiscores.apiclient.model.input.FetchOptions;
+import com.osrshiscores.apiclient.model.output.Activity;
+import com.osrshiscores.apiclient.model.output.OsrsPlayer;
+import com.osrshiscores.apiclient.model.output.Skill;
+
+/**
+ * Parser for the JSON response of the OSRS hiscores ({@code index_lite.json}).
+ * The response is read token by token with Jackson's streaming JsonParser, directly into the output model,
+ * without building an intermediate tree. Skill and activity names and ids are taken from the payload;
+ * an entry without an id or a name is rejected with a JsonParseException.
+ */
+public final class HiscoresJsonParser {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int OVERALL_SKILL_ID = 0;
+    private static final int UNRANKED_VALUE = -1;
+    private static final int MISSING_ID = -1;
+    private static final int DEFAULT_SCORE = 0;
+    private static final int EXPECTED_SKILLS = 24;
+    private static final int EXPECTED_ACTIVITIES = 96;
+
+    private HiscoresJsonParser() {
+        // Utility class, no instantiation needed
+    }
+
+    /**
+     * Parses a JSON hiscores response body from a stream. The stream is not closed.
+     *
+     * @param rsn Player's RuneScape name
+     * @param response Stream over the JSON response body
+     * @param options Fetch options for processing the response
+     * @return OsrsPlayer object containing the parsed data
+     * @throws IOException If the stream cannot be read or does not contain valid JSON
+     */
+    public static OsrsPlayer parse(String rsn, InputStream response, FetchOptions options) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(response)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return parse(rsn, parser, options);
+        }
+    }
+
+    /**
+     * Parses a JSON hiscores response body held as a String.
+     *
+     * @param rsn Player's RuneScape name
+     * @param response The JSON response body
+     * @param options Fetch options for processing the response
+     * @return OsrsPlayer object containing the parsed data
+     * @throws IOException If the response is not valid JSON
+     */
+    public static OsrsPlayer parse(String rsn, String response, FetchOptions options) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(response)) {
+            return parse(rsn, parser, options);
+        }
+    }
+
+    private static OsrsPlayer parse(String rsn, JsonParser parser, FetchOptions options) throws IOException {
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        List<Skill> skills = new ArrayList<>(EXPECTED_SKILLS);
+        List<Activity> activities = new ArrayList<>(EXPECTED_ACTIVITIES);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("skills".equals(field)) {
+                expect(parser, value, JsonToken.START_ARRAY);
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    skills.add(readSkill(parser, options));
+                }
+            } else if ("activities".equals(field)) {
+                expect(parser, value, JsonToken.START_ARRAY);
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    activities.add(readActivity(parser));
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return new OsrsPlayer(rsn, skills, activities);
+    }
+
+    private static Skill readSkill(JsonParser parser, FetchOptions options) throws IOException {
+        EntryFields fields = EntryFields.read(parser, "skill");
+        int level = fields.level;
+        if (options.isCalculateVirtualLevels() && fields.id != OVERALL_SKILL_ID) {
+            level = LevelCalculator.calculateLevel(fields.xp, true);
+        }
+        return new Skill(fields.id, fields.name, fields.rank, level, fields.xp);
+    }
+
+    private static Activity readActivity(JsonParser parser) throws IOException {
+        EntryFields fields = EntryFields.read(parser, "activity");
+        return new Activity(fields.id, fields.name, fields.rank,
+                fields.rank == UNRANKED_VALUE ? DEFAULT_SCORE : fields.score);
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    /**
+     * The fields of one skill or activity object, which may appear in any order.
+     * The id and name are required; the values default to unranked.
+     */
+    private static final class EntryFields {
+        private int id = MISSING_ID;
+        private String name;
+        private int rank = UNRANKED_VALUE;
+        private int level = 1;
+        private long xp = UNRANKED_VALUE;
+        private int score = DEFAULT_SCORE;
+
+        static EntryFields read(JsonParser parser, String kind) throws IOException {
+            EntryFields fields = new EntryFields();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                fields.set(field, parser);
+            }
+            if (fields.id < 0) {
+                throw new JsonParseException(parser, "Hiscores " + kind + " has no valid id");
+            }
+            if (fields.name == null) {
+                throw new JsonParseException(parser, "Hiscores " + kind + " " + fields.id + " has no name");
+            }
+            return fields;
+        }
+
+        private void set(String field, JsonParser parser) throws IOException {
+            if ("id".equals(field)) {
+                id = parser.getIntValue();
+            } else if ("name".equals(field)) {
+                name = parser.getValueAsString();
+            } else if ("rank".equals(field)) {
+                rank = parser.getIntValue();
+            } else if ("level".equals(field)) {
+                level = parser.getIntValue();
+            } else if ("xp".equals(field)) {
+                xp = parser.getLongValue();
+            } else if ("score".equals(field)) {
+                score = parser.getIntValue();
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+}
@@ -1,45 +1,35 @@
 package com.osrshiscores.apiclient.utils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
 import com.osrshiscores.apiclient.model.input.FetchOptions;
+import com.osrshiscores.apiclient.model.input.HiscoresSchema;
 import com.osrshiscores.apiclient.model.output.Activity;
 import com.osrshiscores.apiclient.model.output.OsrsPlayer;
+import com.osrshiscores.apiclient.model.output.PlayerSnapshot;
 import com.osrshiscores.apiclient.model.output.Skill;
 
 /**
  * Parser for the OSRS hiscores response.
  * This class handles parsing the CSV-like response from the OSRS hiscores API.
+ * The response is scanned in a single pass and numbers are parsed in place,
+ * without splitting it into intermediate line and field strings.
+ * Row names come from the HiscoresSchema in the fetch options. Rows beyond the schema are ignored,
+ * unless strictSchema is set, in which case a response with more rows than the schema is rejected.
  */
 public final class HiscoresResponseParser {
-    private static final int SKILL_COUNT = 24;
-    private static final int ACTIVITY_COUNT = 40;
     private static final int OVERALL_SKILL_ID = 0;
     private static final int UNRANKED_VALUE = -1;
     private static final int DEFAULT_SCORE = 0;
-
-    private static final String[] SKILL_NAMES = {
-        "Overall", "Attack", "Defence", "Strength", "Hitpoints", "Ranged",
-        "Prayer", "Magic", "Cooking", "Woodcutting", "Fletching", "Fishing",
-        "Firemaking", "Crafting", "Smithing", "Mining", "Herblore", "Agility",
-        "Thieving", "Slayer", "Farming", "Runecrafting", "Hunter", "Construction",
-    };
-
-    private static final String[] ACTIVITY_NAMES = {
-        "League Points", "Bounty Hunter - Hunter", "Bounty Hunter - Rogue",
-        "Clue Scrolls (all)", "Clue Scrolls (beginner)", "Clue Scrolls (easy)",
-        "Clue Scrolls (medium)", "Clue Scrolls (hard)", "Clue Scrolls (elite)",
-        "Clue Scrolls (master)", "LMS - Rank", "PvP Arena - Rank",
-        "Soul Wars Zeal", "Rifts closed", "Abyssal Sire", "Alchemical Hydra",
-        "Artio", "Barrows Chests", "Bryophyta", "Callisto", "Calvarion",
-        "Cerberus", "Chambers of Xeric", "Chambers of Xeric: Challenge Mode",
-        "Chaos Elemental", "Chaos Fanatic", "Commander Zilyana",
-        "Corporeal Beast", "Crazy Archaeologist", "Dagannoth Prime",
-        "Dagannoth Rex", "Dagannoth Supreme", "Deranged Archaeologist",
-        "Duke Sucellus", "General Graardor", "Giant Mole", "Grotesque Guardians",
-        "Hespori", "Kalphite Queen", "King Black Dragon",
-    };
+    private static final int DECIMAL_RADIX = 10;
+    private static final int END_OF_INPUT = -1;
+    private static final int STREAM_BUFFER_SIZE = 4096;
+    private static final int BYTE_MASK = 0xFF;
 
     private HiscoresResponseParser() {
         // Utility class, no instantiation needed
@@ -52,39 +42,343 @@ public final class HiscoresResponseParser {
      * @param response Raw response from the OSRS hiscores API
      * @param options Fetch options for processing the response
      * @return OsrsPlayer object containing the parsed data
+     * @throws IllegalArgumentException If the response is not a valid hiscores response
      */
     public static OsrsPlayer parse(String rsn, String response, FetchOptions options) {
-        String[] lines = response.split("\n");
-        List<Skill> skills = parseSkills(lines, options);
-        List<Activity> activities = parseActivities(lines);
-        return new OsrsPlayer(rsn, skills, activities);
+        return parse(rsn, new FieldReader(new CharSequenceSource(response)), options);
+    }
+
+    /**
+     * Parses a raw OSRS hiscores response body held in a byte buffer.
+     * The buffer's position is left unchanged.
+     *
+     * @param rsn Player's RuneScape name
+     * @param response Raw ASCII response body from the OSRS hiscores API
+     * @param options Fetch options for processing the response
+     * @return OsrsPlayer object containing the parsed data
+     * @throws IllegalArgumentException If the response is not a valid hiscores response
+     */
+    public static OsrsPlayer parse(String rsn, ByteBuffer response, FetchOptions options) {
+        return parse(rsn, new FieldReader(new ByteBufferSource(response.duplicate())), options);
+    }
+
+    /**
+     * Parses a raw OSRS hiscores response body directly from a stream, without materializing it as a String.
+     * The stream is read up to the end of the known rows, or to its end with strictSchema, but is not closed.
+     *
+     * @param rsn Player's RuneScape name
+     * @param response Stream over the raw ASCII response body from the OSRS hiscores API
+     * @param options Fetch options for processing the response
+     * @return OsrsPlayer object containing the parsed data
+     * @throws IOException If there is an error reading from the stream
+     * @throws IllegalArgumentException If the response is not a valid hiscores response
+     */
+    public static OsrsPlayer parse(String rsn, InputStream response, FetchOptions options) throws IOException {
+        try {
+            return parse(rsn, new FieldReader(new InputStreamSource(response)), options);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static OsrsPlayer parse(String rsn, FieldReader reader, FetchOptions options) {
+        PlayerRows rows = new PlayerRows(options.getSchema());
+        readRows(reader, options, rows);
+        return new OsrsPlayer(rsn, rows.skills, rows.activities);
     }
 
-    private static List<Skill> parseSkills(String[] lines, FetchOptions options) {
-        List<Skill> skills = new ArrayList<>(SKILL_COUNT);
-        for (int i = 0; i < SKILL_COUNT; i++) {
-            String[] parts = lines[i].split(",");
-            int rank = Integer.parseInt(parts[0]);
-            int level = Integer.parseInt(parts[1]);
-            long xp = Long.parseLong(parts[2]);
+    /**
+     * Parses the OSRS hiscores response into a compact PlayerSnapshot, without creating Skill or Activity objects.
+     *
+     * @param rsn Player's RuneScape name
+     * @param response Raw response from the OSRS hiscores API
+     * @param options Fetch options for processing the response
+     * @return PlayerSnapshot containing the parsed data
+     * @throws IllegalArgumentException If the response is not a valid hiscores response
+     */
+    public static PlayerSnapshot parseSnapshot(String rsn, String response, FetchOptions options) {
+        return parseSnapshot(rsn, new FieldReader(new CharSequenceSource(response)), options);
+    }
+
+    /**
+     * Parses a raw OSRS hiscores response body read from a stream into a compact PlayerSnapshot.
+     * The stream is read up to the end of the known rows, or to its end with strictSchema, but is not closed.
+     *
+     * @param rsn Player's RuneScape name
+     * @param response Stream over the raw ASCII response body from the OSRS hiscores API
+     * @param options Fetch options for processing the response
+     * @return PlayerSnapshot containing the parsed data
+     * @throws IOException If there is an error reading from the stream
+     * @throws IllegalArgumentException If the response is not a valid hiscores response
+     */
+    public static PlayerSnapshot parseSnapshot(String rsn, InputStream response, FetchOptions options)
+            throws IOException {
+        try {
+            return parseSnapshot(rsn, new FieldReader(new InputStreamSource(response)), options);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static PlayerSnapshot parseSnapshot(String rsn, FieldReader reader, FetchOptions options) {
+        SnapshotRows rows = new SnapshotRows(options.getSchema());
+        readRows(reader, options, rows);
+        return new PlayerSnapshot(rsn, options.getSchema(), rows.skillRanks, rows.skillLevels, rows.skillXp,
+                rows.activityRanks, rows.activityScores);
+    }
+
+    private static void readRows(FieldReader reader, FetchOptions options, RowHandler handler) {
+        HiscoresSchema schema = options.getSchema();
+        for (int i = 0; i < schema.getSkillCount(); i++) {
+            int rank = reader.nextIntField();
+            int level = reader.nextIntField();
+            long xp = reader.nextField();
+            reader.endLine();
 
             if (options.isCalculateVirtualLevels() && i != OVERALL_SKILL_ID) {
                 level = LevelCalculator.calculateLevel(xp, true);
             }
 
-            skills.add(new Skill(i, SKILL_NAMES[i], rank, level, xp));
+            handler.skill(i, rank, level, xp);
+        }
+
+        for (int i = 0; i < schema.getActivityCount(); i++) {
+            int rank = reader.nextIntField();
+            int rawScore = reader.nextIntField();
+            reader.endLine();
+
+            handler.activity(i, rank, rank == UNRANKED_VALUE ? DEFAULT_SCORE : rawScore);
+        }
+
+        if (options.isStrictSchema()) {
+            int extraRows = reader.countRemainingRows();
+            if (extraRows > 0) {
+                int schemaRows = schema.getSkillCount() + schema.getActivityCount();
+                throw new IllegalArgumentException("Hiscores response has " + (schemaRows + extraRows)
+                        + " rows but schema " + schema.getVersion() + " lists " + schemaRows);
+            }
         }
-        return skills;
     }
 
-    private static List<Activity> parseActivities(String[] lines) {
-        List<Activity> activities = new ArrayList<>(ACTIVITY_COUNT);
-        for (int i = 0; i < ACTIVITY_COUNT; i++) {
-            String[] parts = lines[i + SKILL_COUNT].split(",");
-            int rank = Integer.parseInt(parts[0]);
-            int score = rank == UNRANKED_VALUE ? DEFAULT_SCORE : Integer.parseInt(parts[1]);
-            activities.add(new Activity(i, ACTIVITY_NAMES[i], rank, score));
+    /**
+     * Receives each parsed row, with virtual levels and unranked scores already applied.
+     */
+    private interface RowHandler {
+        void skill(int id, int rank, int level, long xp);
+
+        void activity(int id, int rank, int score);
+    }
+
+    /**
+     * Collects rows as Skill and Activity objects for an OsrsPlayer.
+     */
+    private static final class PlayerRows implements RowHandler {
+        private final HiscoresSchema schema;
+        private final List<Skill> skills;
+        private final List<Activity> activities;
+
+        PlayerRows(HiscoresSchema schema) {
+            this.schema = schema;
+            this.skills = new ArrayList<>(schema.getSkillCount());
+            this.activities = new ArrayList<>(schema.getActivityCount());
+        }
+
+        @Override
+        public void skill(int id, int rank, int level, long xp) {
+            skills.add(new Skill(id, schema.getSkillName(id), rank, level, xp));
+        }
+
+        @Override
+        public void activity(int id, int rank, int score) {
+            activities.add(new Activity(id, schema.getActivityName(id), rank, score));
+        }
+    }
+
+    /**
+     * Collects rows into the primitive arrays backing a PlayerSnapshot.
+     */
+    private static final class SnapshotRows implements RowHandler {
+        private final int[] skillRanks;
+        private final int[] skillLevels;
+        private final long[] skillXp;
+        private final int[] activityRanks;
+        private final int[] activityScores;
+
+        SnapshotRows(HiscoresSchema schema) {
+            this.skillRanks = new int[schema.getSkillCount()];
+            this.skillLevels = new int[schema.getSkillCount()];
+            this.skillXp = new long[schema.getSkillCount()];
+            this.activityRanks = new int[schema.getActivityCount()];
+            this.activityScores = new int[schema.getActivityCount()];
+        }
+
+        @Override
+        public void skill(int id, int rank, int level, long xp) {
+            skillRanks[id] = rank;
+            skillLevels[id] = level;
+            skillXp[id] = xp;
+        }
+
+        @Override
+        public void activity(int id, int rank, int score) {
+            activityRanks[id] = rank;
+            activityScores[id] = score;
+        }
+    }
+
+    /**
+     * Reads comma-separated numeric fields from a character source, one row at a time.
+     * Fields within a row must be separated by commas; a row that ends early is rejected rather than
+     * being read together with the next one. Extra fields at the end of a row are skipped by endLine.
+     */
+    private static final class FieldReader {
+        private final CharSource source;
+        private int delimiter = '\n';
+        private boolean atRowStart = true;
+
+        FieldReader(CharSource source) {
+            this.source = source;
+        }
+
+        long nextField() {
+            checkDelimiter();
+            atRowStart = false;
+
+            int c = source.read();
+            boolean negative = c == '-';
+            if (negative) {
+                c = source.read();
+            }
+            if (!isDigit(c)) {
+                throw new IllegalArgumentException("Malformed hiscores response: expected a number");
+            }
+
+            long value = 0;
+            while (isDigit(c)) {
+                value = appendDigit(value, c - '0');
+                c = source.read();
+            }
+            if (c == '\r') {
+                c = source.read();
+            }
+
+            delimiter = c;
+            return negative ? -value : value;
+        }
+
+        int nextIntField() {
+            long value = nextField();
+            if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Malformed hiscores response: number out of range");
+            }
+            return (int) value;
+        }
+
+        void endLine() {
+            while (delimiter != '\n' && delimiter != END_OF_INPUT) {
+                delimiter = source.read();
+            }
+            atRowStart = true;
+        }
+
+        int countRemainingRows() {
+            int rows = 0;
+            boolean inRow = false;
+            for (int c = delimiter == END_OF_INPUT ? END_OF_INPUT : source.read(); c != END_OF_INPUT;
+                    c = source.read()) {
+                if (c == '\n') {
+                    inRow = false;
+                } else if (!inRow && !Character.isWhitespace(c)) {
+                    inRow = true;
+                    rows++;
+                }
+            }
+            delimiter = END_OF_INPUT;
+            return rows;
+        }
+
+        private void checkDelimiter() {
+            if (atRowStart && delimiter != '\n') {
+                throw new IllegalArgumentException("Malformed hiscores response: unexpected end of input");
+            }
+            if (!atRowStart && delimiter != ',') {
+                throw new IllegalArgumentException("Malformed hiscores response: row has too few fields");
+            }
+        }
+
+        private static long appendDigit(long value, int digit) {
+            if (value > (Long.MAX_VALUE - digit) / DECIMAL_RADIX) {
+                throw new IllegalArgumentException("Malformed hiscores response: number out of range");
+            }
+            return value * DECIMAL_RADIX + digit;
+        }
+
+        private static boolean isDigit(int c) {
+            return c >= '0' && c <= '9';
+        }
+    }
+
+    /**
+     * A sequential source of characters, returning END_OF_INPUT once exhausted.
+     */
+    private interface CharSource {
+        int read();
+    }
+
+    private static final class CharSequenceSource implements CharSource {
+        private final CharSequence chars;
+        private int position;
+
+        CharSequenceSource(CharSequence chars) {
+            this.chars = chars;
+        }
+
+        @Override
+        public int read() {
+            return position < chars.length() ? chars.charAt(position++) : END_OF_INPUT;
+        }
+    }
+
+    private static final class ByteBufferSource implements CharSource {
+        private final ByteBuffer buffer;
+
+        ByteBufferSource(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & BYTE_MASK : END_OF_INPUT;
+        }
+    }
+
+    private static final class InputStreamSource implements CharSource {
+        private final InputStream stream;
+        private final byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+        private int position;
+        private int limit;
+
+        InputStreamSource(InputStream stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        public int read() {
+            if (position == limit && !fill()) {
+                return END_OF_INPUT;
+            }
+            return buffer[position++] & BYTE_MASK;
+        }
+
+        private boolean fill() {
+            try {
+                int read = stream.read(buffer, 0, buffer.length);
+                position = 0;
+                limit = Math.max(read, 0);
+                return read > 0;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
         }
-        return activities;
     }
 }
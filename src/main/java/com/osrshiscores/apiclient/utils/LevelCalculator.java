@@ -3,25 +3,28 @@ package com.osrshiscores.apiclient.utils;
 /**
  * Utility class for calculating OSRS skill levels based on experience points.
  * This class handles both regular and virtual level calculations.
+ * Lookups binary-search a precomputed experience table and never allocate.
  */
 public final class LevelCalculator {
     private static final int MAX_REGULAR_LEVEL = 99;
     private static final int MAX_VIRTUAL_LEVEL = 126;
-    private static final int[] XP_TABLE = new int[MAX_VIRTUAL_LEVEL + 1];
+    private static final long[] XP_TABLE = new long[MAX_VIRTUAL_LEVEL + 1];
     private static final int XP_MULTIPLIER = 300;
     private static final double XP_POWER_BASE = 2.0;
     private static final double XP_POWER_DIVISOR = 7.0;
     private static final int XP_POINTS_DIVISOR = 4;
     private static final int MIN_LEVEL = 1;
+    private static final double PERCENT = 100.0;
 
     static {
         // Initialize XP table using OSRS formula
+        double points = 0;
         for (int level = MIN_LEVEL; level <= MAX_VIRTUAL_LEVEL; level++) {
-            double points = 0;
-            for (int i = MIN_LEVEL; i < level; i++) {
-                points += Math.floor(i + XP_MULTIPLIER * Math.pow(XP_POWER_BASE, i / XP_POWER_DIVISOR));
+            if (level > MIN_LEVEL) {
+                int previous = level - 1;
+                points += Math.floor(previous + XP_MULTIPLIER * Math.pow(XP_POWER_BASE, previous / XP_POWER_DIVISOR));
             }
-            XP_TABLE[level] = (int) Math.floor(points / XP_POINTS_DIVISOR);
+            XP_TABLE[level] = (long) Math.floor(points / XP_POINTS_DIVISOR);
         }
     }
 
@@ -43,15 +46,85 @@ public final class LevelCalculator {
      * @return The skill level, capped at 99 if calculateVirtualLevels is false
      */
     public static int calculateLevel(long xp, boolean calculateVirtualLevels) {
-        int maxLevel = calculateVirtualLevels ? MAX_VIRTUAL_LEVEL : MAX_REGULAR_LEVEL;
-        
+        int low = MIN_LEVEL;
+        int high = maxLevel(calculateVirtualLevels);
+
         // Find the highest level where the XP requirement is met
-        for (int level = maxLevel; level >= MIN_LEVEL; level--) {
-            if (xp >= XP_TABLE[level]) {
-                return level;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (xp >= XP_TABLE[mid]) {
+                low = mid;
+            } else {
+                high = mid - 1;
             }
         }
-        
-        return MIN_LEVEL;
+
+        return low;
+    }
+
+    /**
+     * Calculates the skill level for every experience value in a batch.
+     * The results are written into the given array, so no memory is allocated.
+     *
+     * @param xp The experience points to convert
+     * @param levels The array receiving the level for each entry of xp, at least as long as xp
+     * @param calculateVirtualLevels Whether to calculate levels above 99
+     */
+    public static void calculateLevels(long[] xp, int[] levels, boolean calculateVirtualLevels) {
+        if (levels.length < xp.length) {
+            throw new IllegalArgumentException("levels must be at least as long as xp");
+        }
+        for (int i = 0; i < xp.length; i++) {
+            levels[i] = calculateLevel(xp[i], calculateVirtualLevels);
+        }
+    }
+
+    /**
+     * Returns the experience points required to reach a level.
+     *
+     * @param level The level, between 1 and 126
+     * @return The experience points required for the level
+     */
+    public static long getXpForLevel(int level) {
+        if (level < MIN_LEVEL || level > MAX_VIRTUAL_LEVEL) {
+            throw new IllegalArgumentException("level must be between " + MIN_LEVEL + " and " + MAX_VIRTUAL_LEVEL);
+        }
+        return XP_TABLE[level];
+    }
+
+    /**
+     * Calculates the experience points still needed to reach the next level.
+     *
+     * @param xp The experience points
+     * @param calculateVirtualLevels Whether levels above 99 count as further levels
+     * @return The remaining experience points, or 0 if the maximum level has been reached
+     */
+    public static long calculateXpToNextLevel(long xp, boolean calculateVirtualLevels) {
+        int level = calculateLevel(xp, calculateVirtualLevels);
+        if (level >= maxLevel(calculateVirtualLevels)) {
+            return 0;
+        }
+        return XP_TABLE[level + 1] - Math.max(xp, 0);
+    }
+
+    /**
+     * Calculates how far the experience points are between the current level and the next.
+     *
+     * @param xp The experience points
+     * @param calculateVirtualLevels Whether levels above 99 count as further levels
+     * @return The progress as a percentage from 0 to 100, or 100 if the maximum level has been reached
+     */
+    public static double calculateProgressToNextLevel(long xp, boolean calculateVirtualLevels) {
+        int level = calculateLevel(xp, calculateVirtualLevels);
+        if (level >= maxLevel(calculateVirtualLevels)) {
+            return PERCENT;
+        }
+        long levelXp = XP_TABLE[level];
+        long gained = Math.max(xp, 0) - levelXp;
+        return gained * PERCENT / (XP_TABLE[level + 1] - levelXp);
+    }
+
+    private static int maxLevel(boolean calculateVirtualLevels) {
+        return calculateVirtualLevels ? MAX_VIRTUAL_LEVEL : MAX_REGULAR_LEVEL;
     }
 }